@@ -1,16 +1,153 @@
 package com.springstudy.projectboardadmin.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class BeanConfig {
 
+    private static final String BOARD_POOL_NAME = "board";
+
+    @Bean
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory boardClientHttpRequestFactory,
+            BoardMetricsInterceptor boardMetricsInterceptor,
+            BoardConcurrencyLimitInterceptor boardConcurrencyLimitInterceptor,
+            BoardResilienceInterceptor boardResilienceInterceptor,
+            MeterRegistry meterRegistry
+    ) {
+        RestTemplate restTemplate = builder
+                .requestFactory(() -> boardClientHttpRequestFactory)
+                .additionalInterceptors(boardMetricsInterceptor, boardConcurrencyLimitInterceptor, boardResilienceInterceptor) // 앞의 것이 바깥을 감싼다
+                .build();
+        restTemplate.getMessageConverters().replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                ? new TimedJacksonHttpMessageConverter(jackson.getObjectMapper(), meterRegistry)
+                : converter);
+
+        return restTemplate;
+    }
+
+    /**
+     * 게시판 API 호출 시간과 응답 크기를 URI 템플릿별로 잰다. 요청을 {@link java.net.URI} 로 만들어 보내므로,
+     * 스프링 부트의 {@code http.client.requests} 는 ID 가 들어간 URI 를 그대로 태그로 쓴다.
+     */
+    @Bean
+    public BoardMetricsInterceptor boardMetricsInterceptor(MeterRegistry meterRegistry) {
+        return new BoardMetricsInterceptor(meterRegistry);
+    }
+
+    /**
+     * 게시판 API 호출용 커넥션 풀. 점유 현황은 {@code httpcomponents.httpclient.pool.*} 게이지로 노출된다.
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager boardConnectionManager(ProjectProperties projectProperties, MeterRegistry meterRegistry) {
+        ProjectProperties.Pool pool = projectProperties.board().pool();
+
+        PoolingHttpClientConnectionManager connectionManager = new TimedPoolingHttpClientConnectionManager(meterRegistry, BOARD_POOL_NAME);
+        connectionManager.setMaxTotal(pool.maxTotal());
+        connectionManager.setDefaultMaxPerRoute(pool.maxPerRoute());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, BOARD_POOL_NAME).bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public CloseableHttpClient boardHttpClient(ProjectProperties projectProperties, PoolingHttpClientConnectionManager boardConnectionManager) {
+        ProjectProperties.Pool pool = projectProperties.board().pool();
+        long keepAliveMillis = pool.keepAlive().toMillis();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) pool.connectTimeout().toMillis())
+                .setSocketTimeout((int) pool.readTimeout().toMillis())
+                .setConnectionRequestTimeout((int) pool.acquireTimeout().toMillis())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(boardConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(pool.idleEviction().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory boardClientHttpRequestFactory(CloseableHttpClient boardHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(boardHttpClient);
+    }
+
+    /**
+     * 논블로킹 게시판 클라이언트용 커넥션 풀. {@code project.board.reactive.enabled} 일 때만 만든다.
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "project.board.reactive", name = "enabled", havingValue = "true")
+    public ConnectionProvider boardReactiveConnectionProvider(ProjectProperties projectProperties) {
+        ProjectProperties.Pool pool = projectProperties.board().pool();
+
+        return ConnectionProvider.builder(BOARD_POOL_NAME)
+                .maxConnections(pool.maxTotal())
+                .pendingAcquireTimeout(pool.acquireTimeout())
+                .maxIdleTime(pool.idleEviction())
+                .maxLifeTime(pool.keepAlive())
+                .evictInBackground(pool.idleEviction())
+                .build();
+    }
+
+    /**
+     * 논블로킹 게시판 클라이언트. {@link #restTemplate} 과 같은 인터셉터를 같은 순서의 필터로 걸어,
+     * 지표, 동시 요청 한도, 벌크헤드, 서킷 브레이커를 블로킹 클라이언트와 함께 쓴다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "project.board.reactive", name = "enabled", havingValue = "true")
+    public WebClient boardWebClient(
+            WebClient.Builder builder,
+            ProjectProperties projectProperties,
+            ConnectionProvider boardReactiveConnectionProvider,
+            BoardMetricsInterceptor boardMetricsInterceptor,
+            BoardConcurrencyLimitInterceptor boardConcurrencyLimitInterceptor,
+            BoardResilienceInterceptor boardResilienceInterceptor,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        ProjectProperties.Pool pool = projectProperties.board().pool();
+
+        HttpClient httpClient = HttpClient.create(boardReactiveConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.connectTimeout().toMillis())
+                .responseTimeout(pool.readTimeout());
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonDecoder(new TimedJackson2JsonDecoder(objectMapper, meterRegistry)))
+                .filter(boardMetricsInterceptor) // 앞의 것이 바깥을 감싼다
+                .filter(boardConcurrencyLimitInterceptor)
+                .filter(boardResilienceInterceptor)
+                .build();
     }
 
 }
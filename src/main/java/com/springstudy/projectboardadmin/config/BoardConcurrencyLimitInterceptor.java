@@ -0,0 +1,135 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.service.support.AdaptiveConcurrencyLimiter;
+import com.springstudy.projectboardadmin.service.support.BackgroundTraffic;
+import com.springstudy.projectboardadmin.service.support.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시판으로 나가는 요청 전체를 {@link AdaptiveConcurrencyLimiter} 로 제한한다.
+ * {@link BackgroundTraffic} 으로 표시한 백그라운드 작업의 요청은 따로 둔 한도로 제한하므로, 사용자가 직접 보낸 요청의 자리를 차지하지 않는다.
+ * <p>
+ * 한도를 넘으면 기다리지 않고 {@link ConcurrencyLimitExceededException} 을 던진다.
+ * 자리는 응답 본문까지 다 읽고 응답을 닫을 때 돌려주므로, 본문을 읽는 동안 커넥션을 쥐고 있는 요청도 한도 안에서 센다.
+ * 연결 오류, 타임아웃, 5xx 응답, 본문을 읽다 난 오류는 한도를 줄이는 신호로 쓰고, 응답 시간은 응답 헤더를 받을 때까지로 잰다.
+ * 서킷 브레이커나 벌크헤드가 거절한 경우처럼 게시판까지 가지 않은 요청은 한도 조절에 반영하지 않는다.
+ * <p>
+ * 논블로킹 클라이언트({@link ExchangeFilterFunction})에서는 같은 예외로 끝나는 {@link Mono} 를 돌려주고,
+ * 연결 오류와 타임아웃은 {@link WebClientRequestException} 으로 구분한다. 자리는 응답 본문 읽기가 끝나거나 그만둘 때 돌려주고,
+ * 응답 전에 구독이 취소되면 한도 조절에 반영하지 않는다.
+ */
+public class BoardConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor, ExchangeFilterFunction {
+
+    private final Lane foreground;
+    private final Lane background;
+
+    public BoardConcurrencyLimitInterceptor(
+            AdaptiveConcurrencyLimiter limiter,
+            Counter rejected,
+            AdaptiveConcurrencyLimiter backgroundLimiter,
+            Counter backgroundRejected
+    ) {
+        this.foreground = new Lane(limiter, rejected);
+        this.background = new Lane(backgroundLimiter, backgroundRejected);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        AdaptiveConcurrencyLimiter limiter = acquire(currentLane());
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getRawStatusCode();
+            long rttNanos = System.nanoTime() - start;
+
+            return new ClosingClientHttpResponse(response, bodyError -> {
+                if (bodyError != null) {
+                    limiter.onDropped();
+                } else {
+                    onResponse(limiter, status, rttNanos);
+                }
+            });
+        } catch (IOException e) {
+            limiter.onDropped();
+            throw e;
+        } catch (RuntimeException e) {
+            limiter.onIgnored();
+            throw e;
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            AdaptiveConcurrencyLimiter limiter;
+            try {
+                limiter = acquire(currentLane());
+            } catch (ConcurrencyLimitExceededException e) {
+                return Mono.error(e);
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean responded = new AtomicBoolean(); // 응답을 받은 뒤의 구독 취소는 본문 읽기에 맡긴다.
+            AtomicBoolean released = new AtomicBoolean(); // 여러 신호가 겹쳐도 한 번만 반영한다.
+            return next.exchange(request)
+                    .doOnError(e -> release(released, e instanceof WebClientRequestException ? limiter::onDropped : limiter::onIgnored))
+                    .doOnCancel(() -> { if (!responded.get()) { release(released, limiter::onIgnored); } })
+                    .map(response -> {
+                        responded.set(true);
+                        int status = response.rawStatusCode();
+                        long rttNanos = System.nanoTime() - start;
+
+                        return response.mutate()
+                                .body(body -> body.doFinally(signal -> release(released, signal == SignalType.ON_ERROR
+                                        ? limiter::onDropped
+                                        : () -> onResponse(limiter, status, rttNanos))))
+                                .build();
+                    });
+        });
+    }
+
+    private Lane currentLane() {
+        return BackgroundTraffic.isActive() ? background : foreground;
+    }
+
+    private static AdaptiveConcurrencyLimiter acquire(Lane lane) {
+        if (!lane.limiter().tryAcquire()) {
+            lane.rejected().increment();
+            throw new ConcurrencyLimitExceededException(lane.limiter().getLimit());
+        }
+
+        return lane.limiter();
+    }
+
+    private static void release(AtomicBoolean released, Runnable outcome) {
+        if (released.compareAndSet(false, true)) { outcome.run(); }
+    }
+
+    private static void onResponse(AdaptiveConcurrencyLimiter limiter, int status, long rttNanos) {
+        if (status >= 500) {
+            limiter.onDropped();
+        } else {
+            limiter.onSuccess(rttNanos);
+        }
+    }
+
+    /**
+     * 동시 요청 한도 하나와 그 한도의 거절 수
+     */
+    private record Lane(AdaptiveConcurrencyLimiter limiter, Counter rejected) {}
+}
@@ -0,0 +1,38 @@
+package com.springstudy.projectboardadmin.config;
+
+import org.springframework.http.HttpRequest;
+
+import java.net.URI;
+
+/**
+ * 게시판 API 요청을 엔드포인트 단위로 묶는 이름. {@code GET /api/articles/{id}} 처럼 메서드와 URI 템플릿으로 만든다.
+ * 게시판 API 는 {@code /api/{리소스}[/{id}]} 형태이므로, 리소스 다음 경로 조각은 모두 {@code {id}} 로 바꾼다.
+ */
+public final class BoardEndpoint {
+
+    private BoardEndpoint() {}
+
+    public static String of(HttpRequest request) {
+        return of(request.getMethodValue(), request.getURI());
+    }
+
+    public static String of(String method, URI uri) {
+        return method + " " + template(uri);
+    }
+
+    public static String template(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        String[] segments = path.split("/");
+        StringBuilder template = new StringBuilder();
+        int resourceSegments = 0;
+
+        for (String segment : segments) {
+            if (segment.isEmpty()) { continue; }
+
+            template.append('/').append(resourceSegments < 2 ? segment : "{id}");
+            resourceSegments++;
+        }
+
+        return template.isEmpty() ? "/" : template.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.support.BackgroundTraffic;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 게시판 서비스 상태({@code board}).
+ * 게시판에 {@code project.board.health-check.path} 를 요청해 응답 시간을 재고,
+ * 정상 응답이 {@code latency-slo} 안에 왔을 때만 UP 이다. 요청이 실패하면 DOWN 이고 예외 내용을 함께 보여준다.
+ * <p>
+ * 게시판 API 와 같은 {@link RestTemplate} 을 쓰므로, 서킷이 열려 있거나 백그라운드 작업의 동시 요청 한도가 찼으면 그 역시 DOWN 으로 보인다.
+ * 상태 확인 요청은 {@link BackgroundTraffic} 으로 표시하므로, 사용자가 직접 보낸 요청의 자리를 차지하지 않는다.
+ */
+@Component
+public class BoardHealthIndicator extends AbstractHealthIndicator {
+
+    private final RestTemplate restTemplate;
+    private final URI uri;
+    private final Duration latencySlo;
+
+    public BoardHealthIndicator(RestTemplate restTemplate, ProjectProperties projectProperties) {
+        super("게시판 상태 확인 실패");
+        this.restTemplate = restTemplate;
+        this.uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + projectProperties.board().healthCheck().path())
+                .build()
+                .toUri();
+        this.latencySlo = projectProperties.board().healthCheck().latencySlo();
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        builder.withDetail("url", uri).withDetail("latencySloMs", latencySlo.toMillis());
+
+        long start = System.nanoTime();
+        ResponseEntity<Void> response = BackgroundTraffic.call(() -> restTemplate.exchange(uri, HttpMethod.GET, null, Void.class));
+        Duration latency = Duration.ofNanos(System.nanoTime() - start);
+
+        builder.withDetail("status", response.getStatusCodeValue()).withDetail("latencyMs", latency.toMillis());
+        if (latency.compareTo(latencySlo) > 0) {
+            builder.down();
+        } else {
+            builder.up();
+        }
+    }
+}
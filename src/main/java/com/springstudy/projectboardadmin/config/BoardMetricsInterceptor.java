@@ -0,0 +1,186 @@
+package com.springstudy.projectboardadmin.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시판 API 호출을 엔드포인트별로 잰다. 태그의 {@code uri} 는 {@link BoardEndpoint#template} 으로 만든 URI 템플릿이라 ID 마다 늘어나지 않는다.
+ * <ul>
+ *     <li>{@code board.client.requests}: 요청을 보내고 응답 헤더를 받을 때까지 걸린 시간. 동시 요청 한도, 벌크헤드, 서킷 브레이커를 통과하는 시간도 포함한다.</li>
+ *     <li>{@code board.client.response.size}: 응답 본문을 읽은 바이트 수. 응답을 닫을 때 기록한다.</li>
+ * </ul>
+ * 역직렬화 시간은 {@link TimedJacksonHttpMessageConverter} 가 따로 잰다. 논블로킹 클라이언트({@link ExchangeFilterFunction})도 같은 지표로 잰다.
+ */
+public class BoardMetricsInterceptor implements ClientHttpRequestInterceptor, ExchangeFilterFunction {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    public BoardMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Tags endpointTags = Tags.of("method", request.getMethodValue(), "uri", BoardEndpoint.template(request.getURI()));
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            record(responded(endpointTags, response.getRawStatusCode()), start);
+
+            return new SizeRecordingResponse(response, responseSize(endpointTags));
+        } catch (IOException | RuntimeException e) {
+            record(failed(endpointTags, e), start);
+            throw e;
+        }
+    }
+
+    /**
+     * 논블로킹 클라이언트용. 응답 크기는 본문을 다 읽거나 읽기를 그만둘 때 기록한다.
+     */
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Tags endpointTags = Tags.of("method", request.method().name(), "uri", BoardEndpoint.template(request.url()));
+            long start = System.nanoTime();
+
+            return next.exchange(request)
+                    .doOnError(e -> record(failed(endpointTags, e), start))
+                    .map(response -> {
+                        record(responded(endpointTags, response.rawStatusCode()), start);
+                        DistributionSummary responseSize = responseSize(endpointTags);
+                        LongAdder bytesRead = new LongAdder();
+
+                        return response.mutate()
+                                .body(body -> body
+                                        .doOnNext(buffer -> bytesRead.add(buffer.readableByteCount()))
+                                        .doFinally(signal -> responseSize.record(bytesRead.sum())))
+                                .build();
+                    });
+        });
+    }
+
+    private static Tags responded(Tags endpointTags, int status) {
+        return endpointTags.and(
+                "status", String.valueOf(status),
+                "outcome", Outcome.forStatus(status).name(),
+                "exception", "none"
+        );
+    }
+
+    private static Tags failed(Tags endpointTags, Throwable e) {
+        return endpointTags.and(
+                "status", "CLIENT_ERROR",
+                "outcome", Outcome.UNKNOWN.name(),
+                "exception", e.getClass().getSimpleName()
+        );
+    }
+
+    private void record(Tags tags, long start) {
+        Timer.builder("board.client.requests")
+                .description("Time until the board API responded, per endpoint template")
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary responseSize(Tags tags) {
+        return DistributionSummary.builder("board.client.response.size")
+                .description("Board API response body size, per endpoint template")
+                .baseUnit("bytes")
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 본문을 읽은 만큼 세다가, 닫을 때 한 번 기록하는 응답
+     */
+    private static class SizeRecordingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final DistributionSummary responseSize;
+        private final LongAdder bytesRead = new LongAdder();
+        private InputStream body;
+        private boolean closed;
+
+        private SizeRecordingResponse(ClientHttpResponse delegate, DistributionSummary responseSize) {
+            this.delegate = delegate;
+            this.responseSize = responseSize;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        int b = super.read();
+                        if (b >= 0) { bytesRead.increment(); }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int n = super.read(buffer, offset, length);
+                        if (n > 0) { bytesRead.add(n); }
+                        return n;
+                    }
+                };
+            }
+
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                responseSize.record(bytesRead.sum());
+            }
+            delegate.close();
+        }
+    }
+}
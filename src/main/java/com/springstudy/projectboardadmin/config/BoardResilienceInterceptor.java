@@ -0,0 +1,127 @@
+package com.springstudy.projectboardadmin.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시판 API 호출을 엔드포인트별 벌크헤드와 게시판 전체에 하나인 서킷 브레이커로 감싼다.
+ * <p>
+ * 벌크헤드가 가득 차면 {@link BulkheadFullException},
+ * 서킷이 열려 있으면 {@link CallNotPermittedException} 을 던지고 요청은 보내지 않는다.
+ * 연결 오류와 타임아웃, 본문을 읽다 난 오류뿐 아니라 5xx 응답도 실패로 센다. 응답 시간은 헤더를 받을 때까지만 잰다.
+ * 호출 결과 기록과 벌크헤드 자리 반환은 응답 헤더가 아니라 본문까지 다 읽고 응답을 닫을 때 하므로,
+ * 본문을 읽는 동안 커넥션을 쥐고 있는 요청도 벌크헤드 자리를 차지한다.
+ * <p>
+ * 논블로킹 클라이언트({@link ExchangeFilterFunction})에서는 같은 예외로 끝나는 {@link Mono} 를 돌려준다.
+ * 이벤트 루프를 막지 않도록 벌크헤드 자리가 날 때까지 기다리지 않고 바로 거절한다.
+ * 결과 기록과 자리 반환은 응답 본문 읽기가 끝나거나 그만둘 때 하고, 응답 전에 구독이 취소되면 서킷 브레이커에 기록하지 않는다.
+ */
+public class BoardResilienceInterceptor implements ClientHttpRequestInterceptor, ExchangeFilterFunction {
+
+    private final CircuitBreaker circuitBreaker;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public BoardResilienceInterceptor(CircuitBreaker circuitBreaker, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(BoardEndpoint.of(request));
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            bulkhead.onComplete();
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getRawStatusCode();
+            long elapsedNanos = System.nanoTime() - start;
+
+            return new ClosingClientHttpResponse(response, bodyError -> complete(bulkhead, () -> {
+                if (bodyError != null) {
+                    circuitBreaker.onError(elapsedNanos, TimeUnit.NANOSECONDS, bodyError);
+                } else {
+                    onResponse(status, elapsedNanos);
+                }
+            }));
+        } catch (IOException | RuntimeException e) {
+            complete(bulkhead, () -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e));
+            throw e;
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(BoardEndpoint.of(request.method().name(), request.url()));
+            if (!bulkhead.tryAcquirePermission()) { return Mono.error(BulkheadFullException.createBulkheadFullException(bulkhead)); }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                bulkhead.onComplete();
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean responded = new AtomicBoolean(); // 응답을 받은 뒤의 구독 취소는 본문 읽기에 맡긴다.
+            AtomicBoolean completed = new AtomicBoolean(); // 여러 신호가 겹쳐도 한 번만 기록하고 자리를 돌려준다.
+            return next.exchange(request)
+                    .doOnError(e -> complete(completed, bulkhead, () -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e)))
+                    .doOnCancel(() -> { if (!responded.get()) { complete(completed, bulkhead, circuitBreaker::releasePermission); } })
+                    .map(response -> {
+                        responded.set(true);
+                        int status = response.rawStatusCode();
+                        long elapsedNanos = System.nanoTime() - start;
+
+                        return response.mutate()
+                                .body(body -> body
+                                        .doOnError(e -> complete(completed, bulkhead, () -> circuitBreaker.onError(elapsedNanos, TimeUnit.NANOSECONDS, e)))
+                                        .doFinally(signal -> complete(completed, bulkhead, () -> onResponse(status, elapsedNanos))))
+                                .build();
+                    });
+        });
+    }
+
+    private static void complete(AtomicBoolean completed, Bulkhead bulkhead, Runnable outcome) {
+        if (completed.compareAndSet(false, true)) { complete(bulkhead, outcome); }
+    }
+
+    private static void complete(Bulkhead bulkhead, Runnable outcome) {
+        try {
+            outcome.run();
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private void onResponse(int status, long elapsedNanos) {
+        if (status >= 500) {
+            HttpStatus httpStatus = HttpStatus.resolve(status);
+            circuitBreaker.onError(elapsedNanos, TimeUnit.NANOSECONDS, new HttpServerErrorException(httpStatus == null ? HttpStatus.INTERNAL_SERVER_ERROR : httpStatus));
+        } else {
+            circuitBreaker.onSuccess(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
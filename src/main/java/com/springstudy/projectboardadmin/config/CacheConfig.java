@@ -0,0 +1,19 @@
+package com.springstudy.projectboardadmin.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게시판 API 단건 조회 결과 캐시.
+ * 캐시 크기와 만료 시간은 {@code spring.cache.caffeine.spec} 으로 설정하고,
+ * 적중/실패/제거 횟수는 actuator 의 {@code cache.*} 지표로 확인할 수 있다.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String ARTICLE_CACHE = "boardArticle";
+    public static final String ARTICLE_COMMENT_CACHE = "boardArticleComment";
+    public static final String USER_ACCOUNT_CACHE = "boardUserAccount";
+
+}
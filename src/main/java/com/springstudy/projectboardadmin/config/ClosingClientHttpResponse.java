@@ -0,0 +1,90 @@
+package com.springstudy.projectboardadmin.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 닫을 때 한 번 {@code onClose} 를 부르는 응답. 본문을 읽다가 {@link IOException} 이 났으면 그 예외를, 아니면 {@code null} 을 넘긴다.
+ * 응답 헤더가 아니라 본문까지 다 읽은 뒤에 자리를 돌려주고 호출 결과를 기록할 때 쓴다.
+ * {@code RestTemplate} 은 응답을 읽고 나면 성공이든 실패든 항상 닫는다.
+ */
+class ClosingClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final Consumer<IOException> onClose;
+    private InputStream body;
+    private IOException bodyError;
+    private boolean closed;
+
+    ClosingClientHttpResponse(ClientHttpResponse delegate, Consumer<IOException> onClose) {
+        this.delegate = delegate;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    try {
+                        return super.read();
+                    } catch (IOException e) {
+                        bodyError = e;
+                        throw e;
+                    }
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    try {
+                        return super.read(buffer, offset, length);
+                    } catch (IOException e) {
+                        bodyError = e;
+                        throw e;
+                    }
+                }
+            };
+        }
+
+        return body;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public HttpStatus getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public int getRawStatusCode() throws IOException {
+        return delegate.getRawStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (!closed) {
+                closed = true;
+                onClose.accept(bodyError);
+            }
+        } finally {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.support.AdaptiveConcurrencyLimiter;
+import com.springstudy.projectboardadmin.service.support.BackgroundTraffic;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 게시판 API 장애 격리.
+ * 서킷 상태와 호출 결과는 {@code resilience4j.circuitbreaker.*}, 벌크헤드 여유는 {@code resilience4j.bulkhead.*} 지표로 노출되고,
+ * 서킷 상태 전이는 {@code board.circuitbreaker.transitions}, 벌크헤드 거절은 {@code board.bulkhead.rejected} 카운터로 센다.
+ * 적응형 동시 요청 한도는 사용자 요청과 백그라운드 작업 요청에 따로 두고, {@code traffic} 태그({@code foreground}, {@code background})를 단
+ * {@code board.concurrency.limit}, {@code board.concurrency.in-flight} 게이지와 {@code board.concurrency.rejected} 카운터로 노출한다.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    public static final String BOARD_CIRCUIT_BREAKER = "board";
+
+    private static final String TRAFFIC_FOREGROUND = "foreground";
+    private static final String TRAFFIC_BACKGROUND = "background";
+
+    @Bean
+    public CircuitBreakerRegistry boardCircuitBreakerRegistry(ProjectProperties projectProperties, MeterRegistry meterRegistry) {
+        ProjectProperties.CircuitBreaker properties = projectProperties.board().resilience().circuitBreaker();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.failureRateThreshold())
+                .slowCallRateThreshold(properties.slowCallRateThreshold())
+                .slowCallDurationThreshold(properties.slowCallDuration())
+                .slidingWindowSize(properties.slidingWindowSize())
+                .minimumNumberOfCalls(properties.minimumNumberOfCalls())
+                .waitDurationInOpenState(properties.waitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.permittedCallsInHalfOpenState())
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        return registry;
+    }
+
+    @Bean
+    public CircuitBreaker boardCircuitBreaker(CircuitBreakerRegistry boardCircuitBreakerRegistry, MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = boardCircuitBreakerRegistry.circuitBreaker(BOARD_CIRCUIT_BREAKER);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> meterRegistry.counter(
+                "board.circuitbreaker.transitions",
+                "name", event.getCircuitBreakerName(),
+                "from", event.getStateTransition().getFromState().name(),
+                "to", event.getStateTransition().getToState().name()
+        ).increment());
+
+        return circuitBreaker;
+    }
+
+    @Bean
+    public BulkheadRegistry boardBulkheadRegistry(ProjectProperties projectProperties, MeterRegistry meterRegistry) {
+        ProjectProperties.Bulkhead properties = projectProperties.board().resilience().bulkhead();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.maxConcurrentCalls())
+                .maxWaitDuration(properties.maxWait())
+                .build());
+        registry.getEventPublisher().onEntryAdded(added -> added.getAddedEntry().getEventPublisher().onCallRejected(event ->
+                meterRegistry.counter("board.bulkhead.rejected", "endpoint", event.getBulkheadName()).increment()
+        ));
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+
+        return registry;
+    }
+
+    /**
+     * 사용자가 직접 보낸 요청의 동시 요청 한도. {@link AdaptiveConcurrencyLimiter} 를 주입받는 곳은 이 한도를 받는다.
+     */
+    @Primary
+    @Bean
+    public AdaptiveConcurrencyLimiter boardConcurrencyLimiter(ProjectProperties projectProperties, MeterRegistry meterRegistry) {
+        return adaptiveConcurrencyLimiter(projectProperties.board().resilience().adaptiveLimit(), TRAFFIC_FOREGROUND, meterRegistry);
+    }
+
+    /**
+     * {@link BackgroundTraffic} 으로 표시한 백그라운드 작업 요청의 동시 요청 한도
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter boardBackgroundConcurrencyLimiter(ProjectProperties projectProperties, MeterRegistry meterRegistry) {
+        return adaptiveConcurrencyLimiter(projectProperties.board().resilience().backgroundLimit(), TRAFFIC_BACKGROUND, meterRegistry);
+    }
+
+    @Bean
+    public BoardConcurrencyLimitInterceptor boardConcurrencyLimitInterceptor(
+            AdaptiveConcurrencyLimiter boardConcurrencyLimiter,
+            AdaptiveConcurrencyLimiter boardBackgroundConcurrencyLimiter,
+            MeterRegistry meterRegistry
+    ) {
+        return new BoardConcurrencyLimitInterceptor(
+                boardConcurrencyLimiter,
+                meterRegistry.counter("board.concurrency.rejected", "traffic", TRAFFIC_FOREGROUND),
+                boardBackgroundConcurrencyLimiter,
+                meterRegistry.counter("board.concurrency.rejected", "traffic", TRAFFIC_BACKGROUND)
+        );
+    }
+
+    @Bean
+    public BoardResilienceInterceptor boardResilienceInterceptor(CircuitBreaker boardCircuitBreaker, BulkheadRegistry boardBulkheadRegistry) {
+        return new BoardResilienceInterceptor(boardCircuitBreaker, boardBulkheadRegistry);
+    }
+
+    private static AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ProjectProperties.AdaptiveLimit properties, String traffic, MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                properties.initialLimit(),
+                properties.minLimit(),
+                properties.maxLimit(),
+                properties.backoffRatio(),
+                properties.latencyTolerance()
+        );
+        Gauge.builder("board.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).tag("traffic", traffic).register(meterRegistry);
+        Gauge.builder("board.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight).tag("traffic", traffic).register(meterRegistry);
+
+        return limiter;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.springstudy.projectboardadmin.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 작업(게시판 데이터 동기화 등)용 스케줄러.
+ * 스레드 수는 {@code spring.task.scheduling.pool.size} 로 설정한다.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -35,6 +35,7 @@ public class SecurityConfig {
         return http
                 .authorizeRequests(auth -> auth
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
+                        .mvcMatchers(HttpMethod.GET, "/livez", "/readyz").permitAll() // liveness, readiness 확인용. 게시판 상태가 담긴 전체 health 는 로그인해야 본다.
                         .mvcMatchers(HttpMethod.POST, "/**").hasAnyRole(rolesAboveManager)
                         .mvcMatchers(HttpMethod.DELETE, "/**").hasAnyRole(rolesAboveManager)
                         .anyRequest().authenticated()
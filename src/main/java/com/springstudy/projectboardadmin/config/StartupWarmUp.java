@@ -0,0 +1,193 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.ArticleClientResponse;
+import com.springstudy.projectboardadmin.dto.response.ArticleCommentClientResponse;
+import com.springstudy.projectboardadmin.dto.response.ArticleCommentSummaryClientResponse;
+import com.springstudy.projectboardadmin.dto.response.ArticleSummaryClientResponse;
+import com.springstudy.projectboardadmin.dto.response.UserAccountClientResponse;
+import com.springstudy.projectboardadmin.service.ArticleCommentManagementService;
+import com.springstudy.projectboardadmin.service.ArticleManagementService;
+import com.springstudy.projectboardadmin.service.UserAccountManagementService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 직후의 예열({@code startupWarmUp}). 처음 들어오는 사용자가 겪을 초기화 비용을 미리 치른다.
+ * <ol>
+ *     <li>게시판 응답 타입의 Jackson 역직렬화기를 만들고, 여러 번 역직렬화해 JIT 가 컴파일하게 한다.</li>
+ *     <li>관리 화면 템플릿을 분리된 로직 파일({@code .th.xml})과 함께 읽어 템플릿 캐시에 넣는다.</li>
+ *     <li>관리 화면마다 첫 목록 페이지를 요청해 커넥션 풀에 연결을 만들고, 목록 스냅샷과 상세 조회 캐시를 채운다.</li>
+ *     <li>{@link BoardHealthIndicator} 가 UP 이 될 때까지 기다린다. {@code max-wait} 이 지나면 더 기다리지 않는다.</li>
+ * </ol>
+ * 예열은 애플리케이션이 뜬 뒤 별도 스레드에서 돌고, 끝나기 전까지 이 상태 지표는 DOWN 이다.
+ * readiness 그룹에 넣어 두면 예열이 끝날 때까지 트래픽을 받지 않는다.
+ * 게시판 상태 자체는 readiness 에 넣지 않는다. 한번 준비된 뒤에는 게시판이 느려져도 목록 스냅샷으로 버틸 수 있기 때문이다.
+ */
+@Slf4j
+@Component
+public class StartupWarmUp implements HealthIndicator {
+
+    private static final List<String> TEMPLATES = List.of(
+            "management/articles", "management/article-comments", "management/user-accounts", "admin/members"
+    );
+    private static final Map<Class<?>, String> CLIENT_RESPONSES = Map.of(
+            ArticleClientResponse.class, "articles",
+            ArticleSummaryClientResponse.class, "articles",
+            ArticleCommentClientResponse.class, "articleComments",
+            ArticleCommentSummaryClientResponse.class, "articleComments",
+            UserAccountClientResponse.class, "userAccounts"
+    );
+    private static final String CLIENT_RESPONSE_SAMPLE = """
+            {"_embedded":{"%s":[{"id":1,"title":"warm-up","content":"warm-up","userId":"warm-up",
+            "userAccount":{"userId":"warm-up","email":"warm-up@mail.com","nickname":"warm-up","createdAt":"2022-01-01T00:00:00"},
+            "createdAt":"2022-01-01T00:00:00","modifiedAt":"2022-01-01T00:00:00"}]},
+            "page":{"size":1,"totalElements":1,"totalPages":1,"number":0}}
+            """;
+
+    private final ProjectProperties.WarmUp warmUpProperties;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ITemplateEngine> templateEngine;
+    private final ArticleManagementService articleManagementService;
+    private final ArticleCommentManagementService articleCommentManagementService;
+    private final UserAccountManagementService userAccountManagementService;
+    private final BoardHealthIndicator boardHealthIndicator;
+
+    private volatile String phase = "waiting";
+    private volatile boolean warm;
+
+    public StartupWarmUp(
+            ProjectProperties projectProperties,
+            ObjectMapper objectMapper,
+            ObjectProvider<ITemplateEngine> templateEngine,
+            ArticleManagementService articleManagementService,
+            ArticleCommentManagementService articleCommentManagementService,
+            UserAccountManagementService userAccountManagementService,
+            BoardHealthIndicator boardHealthIndicator
+    ) {
+        this.warmUpProperties = projectProperties.board().warmUp();
+        this.objectMapper = objectMapper;
+        this.templateEngine = templateEngine;
+        this.articleManagementService = articleManagementService;
+        this.articleCommentManagementService = articleCommentManagementService;
+        this.userAccountManagementService = userAccountManagementService;
+        this.boardHealthIndicator = boardHealthIndicator;
+        this.warm = !warmUpProperties.enabled();
+    }
+
+    @Override
+    public Health health() {
+        return warm
+                ? Health.up().build()
+                : Health.down().withDetail("phase", phase).build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (warm) { return; }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("startup-warm-up-");
+        threadFactory.setDaemon(true);
+        threadFactory.newThread(this::warmUp).start();
+    }
+
+    void warmUp() {
+        long start = System.nanoTime();
+
+        phase = "jackson";
+        warmUpJackson();
+        phase = "templates";
+        warmUpTemplates();
+        phase = "board-lists";
+        warmUpBoardLists();
+        phase = "board-health";
+        if (!awaitBoardHealthy()) { return; }
+
+        warm = true;
+        phase = "done";
+        log.info("예열 완료 - {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void warmUpJackson() {
+        CLIENT_RESPONSES.forEach((type, embeddedName) -> {
+            String sample = CLIENT_RESPONSE_SAMPLE.formatted(embeddedName);
+            try {
+                for (int i = 0; i < warmUpProperties.iterations(); i++) {
+                    objectMapper.readValue(sample, type);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("역직렬화 예열 실패 - type: {}, {}", type.getSimpleName(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 웹 요청 밖이라 링크 표현식 등에서 처리가 실패할 수 있지만, 그 전에 템플릿을 읽고 분리된 로직을 합쳐 캐시에 넣는 것으로 충분하다.
+     */
+    private void warmUpTemplates() {
+        ITemplateEngine engine = templateEngine.getIfAvailable();
+        if (engine == null) { return; }
+
+        for (String template : TEMPLATES) {
+            try {
+                engine.process(template, new Context());
+            } catch (RuntimeException e) {
+                log.debug("템플릿 예열 중 처리 실패(무시) - template: {}, {}", template, e.getMessage());
+            }
+        }
+    }
+
+    private void warmUpBoardLists() {
+        Pageable firstPage = PageRequest.of(0, 10);
+        List<Runnable> requests = List.of(
+                () -> articleManagementService.getArticles(null, firstPage),
+                () -> articleCommentManagementService.getArticleComments(null, firstPage),
+                () -> userAccountManagementService.getUserAccounts(firstPage)
+        );
+        for (Runnable request : requests) {
+            try {
+                request.run();
+            } catch (RuntimeException e) {
+                log.debug("게시판 목록 예열 실패 - {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return 게시판이 UP 이 되었거나 기다리는 시간을 다 써서 더 기다리지 않으면 {@code true}, 중단되었으면 {@code false}
+     */
+    private boolean awaitBoardHealthy() {
+        long deadline = System.nanoTime() + warmUpProperties.maxWait().toNanos();
+        while (!Status.UP.equals(boardHealthIndicator.getHealth(false).getStatus())) {
+            if (System.nanoTime() >= deadline) {
+                log.warn("게시판이 {} 안에 UP 이 되지 않았지만 예열을 마칩니다.", warmUpProperties.maxWait());
+                return true;
+            }
+            try {
+                Thread.sleep(warmUpProperties.retryInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimedJacksonHttpMessageConverter} 의 논블로킹 클라이언트 버전.
+ * {@code bodyToMono} 는 본문을 모두 모은 뒤 이 메서드로 역직렬화하므로, 네트워크에서 읽는 시간은 섞이지 않는다.
+ */
+public class TimedJackson2JsonDecoder extends Jackson2JsonDecoder {
+
+    private final Map<Type, Timer> timers;
+
+    public TimedJackson2JsonDecoder(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.timers = TimedJacksonHttpMessageConverter.deserializationTimers(meterRegistry);
+    }
+
+    @Override
+    public Object decode(DataBuffer dataBuffer, ResolvableType targetType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) throws DecodingException {
+        Timer timer = timers.get(targetType.getType());
+        if (timer == null) { return super.decode(dataBuffer, targetType, mimeType, hints); }
+
+        long start = System.nanoTime();
+        try {
+            return super.decode(dataBuffer, targetType, mimeType, hints);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
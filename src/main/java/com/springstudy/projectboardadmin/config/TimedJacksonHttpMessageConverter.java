@@ -0,0 +1,77 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springstudy.projectboardadmin.dto.response.ArticleClientResponse;
+import com.springstudy.projectboardadmin.dto.response.ArticleCommentClientResponse;
+import com.springstudy.projectboardadmin.dto.response.UserAccountClientResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시판 목록 응답({@link ArticleClientResponse}, {@link ArticleCommentClientResponse}, {@link UserAccountClientResponse})의
+ * 역직렬화 시간을 {@code board.client.deserialization} 타이머({@code type} 태그)로 기록하는 변환기.
+ * <p>
+ * 네트워크에서 읽는 시간이 섞이지 않도록, 이 타입들은 본문을 먼저 모두 읽은 뒤 메모리에서 역직렬화하는 시간만 잰다.
+ * 목록 응답은 한 페이지 크기라 본문을 한꺼번에 읽어도 부담이 없다. 나머지 타입은 그대로 스트림에서 읽는다.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<Type, Timer> timers;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.timers = deserializationTimers(meterRegistry);
+    }
+
+    /**
+     * 역직렬화 시간을 잴 타입별 타이머. {@link TimedJackson2JsonDecoder} 도 같은 타이머에 기록한다.
+     */
+    static Map<Type, Timer> deserializationTimers(MeterRegistry meterRegistry) {
+        return Stream.of(ArticleClientResponse.class, ArticleCommentClientResponse.class, UserAccountClientResponse.class)
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), type -> Timer.builder("board.client.deserialization")
+                        .description("Time spent deserializing a buffered board API response body")
+                        .tag("type", type.getSimpleName())
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry)));
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        Timer timer = timers.get(type);
+        if (timer == null) { return super.read(type, contextClass, inputMessage); }
+
+        byte[] body = inputMessage.getBody().readAllBytes();
+        HttpInputMessage buffered = new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return inputMessage.getHeaders();
+            }
+        };
+
+        long start = System.nanoTime();
+        try {
+            return super.read(type, contextClass, buffered);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.springstudy.projectboardadmin.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 풀에서 커넥션을 얻기까지 기다린 시간을 {@code httpcomponents.httpclient.pool.acquire} 타이머로 기록하는 커넥션 매니저
+ */
+public class TimedPoolingHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer acquireTimer;
+
+    public TimedPoolingHttpClientConnectionManager(MeterRegistry meterRegistry, String poolName) {
+        super();
+        this.acquireTimer = Timer.builder("httpcomponents.httpclient.pool.acquire")
+                .description("Time spent waiting for a pooled connection")
+                .tag("httpclient", poolName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ConnectionRequest delegate = super.requestConnection(route, state);
+
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return delegate.get(timeout, timeUnit);
+                } finally {
+                    acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+}
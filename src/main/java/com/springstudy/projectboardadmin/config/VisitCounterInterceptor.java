@@ -0,0 +1,79 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.dto.security.BoardAdminPrincipal;
+import com.springstudy.projectboardadmin.service.UniqueAdminService;
+import com.springstudy.projectboardadmin.service.VisitCounterService;
+import com.springstudy.projectboardadmin.service.VisitStatisticsService;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 화면을 그리는 요청에서만 방문 수와 방문한 어드민 계정을 세고, 화면에 보여줄 전체 방문 수({@code visitCount})와
+ * 오늘, 최근 일주일 동안 방문한 어드민 수({@code uniqueAdminsToday}, {@code uniqueAdminsThisWeek})를 모델에 넣는다.
+ * 화면을 다 그리고 나면 요청을 받은 때부터 걸린 시간을 {@link VisitStatisticsService} 에 남긴다.
+ * {@code @ResponseBody} 핸들러처럼 화면이 없는 요청({@link ModelAndView} 가 없는 요청)은 건드리지 않는다.
+ */
+public class VisitCounterInterceptor implements HandlerInterceptor {
+
+    public static final String VISIT_COUNT = "visitCount";
+    public static final String UNIQUE_ADMINS_TODAY = "uniqueAdminsToday";
+    public static final String UNIQUE_ADMINS_THIS_WEEK = "uniqueAdminsThisWeek";
+
+    private static final String STARTED_AT = VisitCounterInterceptor.class.getName() + ".startedAt";
+    private static final String VIEW_ENDPOINT = VisitCounterInterceptor.class.getName() + ".viewEndpoint";
+
+    private final VisitCounterService visitCounterService;
+    private final VisitStatisticsService visitStatisticsService;
+    private final UniqueAdminService uniqueAdminService;
+
+    public VisitCounterInterceptor(
+            VisitCounterService visitCounterService,
+            VisitStatisticsService visitStatisticsService,
+            UniqueAdminService uniqueAdminService
+    ) {
+        this.visitCounterService = visitCounterService;
+        this.visitStatisticsService = visitStatisticsService;
+        this.uniqueAdminService = uniqueAdminService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || isRedirect(modelAndView)) { return; }
+
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String endpoint) {
+            visitCounterService.increment(endpoint);
+            request.setAttribute(VIEW_ENDPOINT, endpoint);
+            if (request.getUserPrincipal() instanceof Authentication authentication
+                    && authentication.getPrincipal() instanceof BoardAdminPrincipal principal) {
+                uniqueAdminService.visit(endpoint, principal.getUsername());
+            }
+        }
+        modelAndView.addObject(VISIT_COUNT, visitCounterService.visitCount());
+        modelAndView.addObject(UNIQUE_ADMINS_TODAY, uniqueAdminService.uniqueAdminsToday());
+        modelAndView.addObject(UNIQUE_ADMINS_THIS_WEEK, uniqueAdminService.uniqueAdminsThisWeek());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(VIEW_ENDPOINT) instanceof String endpoint
+                && request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            visitStatisticsService.record(endpoint, System.nanoTime() - startedAt);
+        }
+    }
+
+    private static boolean isRedirect(ModelAndView modelAndView) {
+        String viewName = modelAndView.getViewName();
+        return viewName != null && viewName.startsWith("redirect:");
+    }
+}
@@ -0,0 +1,23 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.service.UniqueAdminService;
+import com.springstudy.projectboardadmin.service.VisitCounterService;
+import com.springstudy.projectboardadmin.service.VisitStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@RequiredArgsConstructor
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final VisitCounterService visitCounterService;
+    private final VisitStatisticsService visitStatisticsService;
+    private final UniqueAdminService uniqueAdminService;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new VisitCounterInterceptor(visitCounterService, visitStatisticsService, uniqueAdminService));
+    }
+}
@@ -1,40 +1,97 @@
 package com.springstudy.projectboardadmin.controller;
 
+import com.springstudy.projectboardadmin.dto.request.DataTablesRequest;
 import com.springstudy.projectboardadmin.dto.response.ArticleCommentResponse;
+import com.springstudy.projectboardadmin.dto.response.BulkDeleteResponse;
+import com.springstudy.projectboardadmin.dto.response.DataTablesResponse;
 import com.springstudy.projectboardadmin.service.ArticleCommentManagementService;
+import com.springstudy.projectboardadmin.service.ReactiveArticleCommentManagementService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @RequestMapping("/management/article-comments")
 @Controller
 public class ArticleCommentManagementController {
 
+    /** 목록 화면에서 정렬할 수 있는 컬럼. 게시판 API 와 로컬 복제본 모두 이 속성으로 정렬할 수 있다. */
+    private static final Set<String> SORTABLE_COLUMNS = Set.of("id", "content", "userAccount.nickname", "createdAt");
+
     private final ArticleCommentManagementService articleCommentManagementService;
+    private final ObjectProvider<ReactiveArticleCommentManagementService> reactiveArticleCommentManagementService;
 
     @GetMapping
-    public String articleComments(Model model) {
-        model.addAttribute(
-                "comments",
-                articleCommentManagementService.getArticleComments().stream().map(ArticleCommentResponse::of).toList()
-        );
-
+    public String articleComments() {
         return "management/article-comments";
     }
 
+    @ResponseBody
+    @GetMapping(params = "ids")
+    public List<ArticleCommentResponse> articleCommentsByIds(@RequestParam List<Long> ids) {
+        return articleCommentManagementService.getArticleCommentsByIds(ids).stream()
+                .map(ArticleCommentResponse::of)
+                .toList();
+    }
+
+    @ResponseBody
+    @GetMapping("/datatables")
+    public CompletableFuture<DataTablesResponse<ArticleCommentResponse>> articleCommentsForDataTables(@RequestParam Map<String, String> params) {
+        DataTablesRequest request = DataTablesRequest.from(params, SORTABLE_COLUMNS);
+        CompletableFuture<Page<ArticleCommentResponse>> page = BoardCalls.call(
+                reactiveArticleCommentManagementService,
+                service -> service.getArticleComments(request.searchValue(), request.toPageable()),
+                () -> articleCommentManagementService.getArticleComments(request.searchValue(), request.toPageable())
+        ).thenApply(articleComments -> articleComments.map(ArticleCommentResponse::withTruncatedContent));
+        if (!request.hasSearchValue()) {
+            return page.thenApply(articleComments -> DataTablesResponse.of(request.draw(), articleComments));
+        }
+
+        CompletableFuture<Long> recordsTotal = BoardCalls.call(
+                reactiveArticleCommentManagementService,
+                service -> service.getArticleComments(null, DataTablesRequest.TOTAL_COUNT_PAGE),
+                () -> articleCommentManagementService.getArticleComments(null, DataTablesRequest.TOTAL_COUNT_PAGE)
+        ).thenApply(Page::getTotalElements);
+
+        return page.thenCombine(recordsTotal, (articleComments, total) -> DataTablesResponse.of(request.draw(), total, articleComments));
+    }
+
     @ResponseBody
     @GetMapping("/{articleCommentId}")
-    public ArticleCommentResponse articleComment(@PathVariable Long articleCommentId) {
-        return ArticleCommentResponse.of(articleCommentManagementService.getArticleComment(articleCommentId));
+    public CompletableFuture<ArticleCommentResponse> articleComment(@PathVariable Long articleCommentId) {
+        return BoardCalls.call(
+                reactiveArticleCommentManagementService,
+                service -> service.getArticleComment(articleCommentId),
+                () -> articleCommentManagementService.getArticleComment(articleCommentId)
+        ).thenApply(ArticleCommentResponse::of);
     }
 
-    @PostMapping("/{articleCommentId}")
-    public String deleteArticleComment(@PathVariable Long articleCommentId) {
-        articleCommentManagementService.deleteArticleComment(articleCommentId);
+    /**
+     * 여러 건 삭제. 목록 경로에 보내므로 {@code /{id}} 경로의 단건 요청과 겹치지 않는다.
+     */
+    @ResponseBody
+    @DeleteMapping
+    public BulkDeleteResponse<Long> deleteArticleComments(@RequestBody List<Long> articleCommentIds) {
+        return articleCommentManagementService.deleteArticleComments(articleCommentIds);
+    }
 
-        return "redirect:/management/article-comments";
+    @PostMapping("/{articleCommentId}")
+    public CompletableFuture<String> deleteArticleComment(@PathVariable Long articleCommentId) {
+        return BoardCalls.<ReactiveArticleCommentManagementService, Void>call(
+                reactiveArticleCommentManagementService,
+                service -> service.deleteArticleComment(articleCommentId),
+                () -> {
+                    articleCommentManagementService.deleteArticleComment(articleCommentId);
+                    return null;
+                }
+        ).thenApply(deleted -> "redirect:/management/article-comments");
     }
 
 }
@@ -1,40 +1,97 @@
 package com.springstudy.projectboardadmin.controller;
 
+import com.springstudy.projectboardadmin.dto.request.DataTablesRequest;
 import com.springstudy.projectboardadmin.dto.response.ArticleResponse;
+import com.springstudy.projectboardadmin.dto.response.BulkDeleteResponse;
+import com.springstudy.projectboardadmin.dto.response.DataTablesResponse;
 import com.springstudy.projectboardadmin.service.ArticleManagementService;
+import com.springstudy.projectboardadmin.service.ReactiveArticleManagementService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @RequestMapping("/management/articles")
 @Controller
 public class ArticleManagementController {
 
+    /** 목록 화면에서 정렬할 수 있는 컬럼. 게시판 API 와 로컬 복제본 모두 이 속성으로 정렬할 수 있다. */
+    private static final Set<String> SORTABLE_COLUMNS = Set.of("id", "title", "userAccount.nickname", "createdAt");
+
     private final ArticleManagementService articleManagementService;
+    private final ObjectProvider<ReactiveArticleManagementService> reactiveArticleManagementService;
 
     @GetMapping
-    public String articles(Model model) {
-        model.addAttribute(
-                "articles",
-                articleManagementService.getArticles().stream().map(ArticleResponse::withoutContent).toList()
-        );
-
+    public String articles() {
         return "management/articles";
     }
 
+    @ResponseBody
+    @GetMapping(params = "ids")
+    public List<ArticleResponse> articlesByIds(@RequestParam List<Long> ids) {
+        return articleManagementService.getArticlesByIds(ids).stream()
+                .map(ArticleResponse::withContent)
+                .toList();
+    }
+
+    @ResponseBody
+    @GetMapping("/datatables")
+    public CompletableFuture<DataTablesResponse<ArticleResponse>> articlesForDataTables(@RequestParam Map<String, String> params) {
+        DataTablesRequest request = DataTablesRequest.from(params, SORTABLE_COLUMNS);
+        CompletableFuture<Page<ArticleResponse>> page = BoardCalls.call(
+                reactiveArticleManagementService,
+                service -> service.getArticles(request.searchValue(), request.toPageable()),
+                () -> articleManagementService.getArticles(request.searchValue(), request.toPageable())
+        ).thenApply(articles -> articles.map(ArticleResponse::withoutContent));
+        if (!request.hasSearchValue()) {
+            return page.thenApply(articles -> DataTablesResponse.of(request.draw(), articles));
+        }
+
+        CompletableFuture<Long> recordsTotal = BoardCalls.call(
+                reactiveArticleManagementService,
+                service -> service.getArticles(null, DataTablesRequest.TOTAL_COUNT_PAGE),
+                () -> articleManagementService.getArticles(null, DataTablesRequest.TOTAL_COUNT_PAGE)
+        ).thenApply(Page::getTotalElements);
+
+        return page.thenCombine(recordsTotal, (articles, total) -> DataTablesResponse.of(request.draw(), total, articles));
+    }
+
     @ResponseBody
     @GetMapping("/{articleId}")
-    public ArticleResponse article(@PathVariable Long articleId) {
-        return ArticleResponse.withContent(articleManagementService.getArticle(articleId));
+    public CompletableFuture<ArticleResponse> article(@PathVariable Long articleId) {
+        return BoardCalls.call(
+                reactiveArticleManagementService,
+                service -> service.getArticle(articleId),
+                () -> articleManagementService.getArticle(articleId)
+        ).thenApply(ArticleResponse::withContent);
     }
 
-    @PostMapping("/{articleId}")
-    public String deleteArticle(@PathVariable Long articleId) {
-        articleManagementService.deleteArticle(articleId);
+    /**
+     * 여러 건 삭제. 목록 경로에 보내므로 {@code /{id}} 경로의 단건 요청과 겹치지 않는다.
+     */
+    @ResponseBody
+    @DeleteMapping
+    public BulkDeleteResponse<Long> deleteArticles(@RequestBody List<Long> articleIds) {
+        return articleManagementService.deleteArticles(articleIds);
+    }
 
-        return "redirect:/management/articles";
+    @PostMapping("/{articleId}")
+    public CompletableFuture<String> deleteArticle(@PathVariable Long articleId) {
+        return BoardCalls.<ReactiveArticleManagementService, Void>call(
+                reactiveArticleManagementService,
+                service -> service.deleteArticle(articleId),
+                () -> {
+                    articleManagementService.deleteArticle(articleId);
+                    return null;
+                }
+        ).thenApply(deleted -> "redirect:/management/articles");
     }
 
 }
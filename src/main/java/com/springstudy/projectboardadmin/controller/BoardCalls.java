@@ -0,0 +1,29 @@
+package com.springstudy.projectboardadmin.controller;
+
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 관리 화면의 데이터 API 가 게시판을 호출하는 방식을 고른다.
+ * 논블로킹 서비스가 등록되어 있으면({@code project.board.reactive.enabled}) 응답을 기다리지 않고 서블릿 스레드를 반납하고,
+ * 없으면 지금 스레드에서 블로킹 서비스를 호출한 결과를 완료된 {@link CompletableFuture} 로 감싸 돌려준다.
+ */
+final class BoardCalls {
+
+    private BoardCalls() {}
+
+    static <S, T> CompletableFuture<T> call(
+            ObjectProvider<S> reactiveService,
+            Function<S, Mono<T>> reactiveCall,
+            Supplier<T> blockingCall
+    ) {
+        S service = reactiveService.getIfAvailable();
+        if (service == null) { return CompletableFuture.completedFuture(blockingCall.get()); }
+
+        return reactiveCall.apply(service).toFuture();
+    }
+}
@@ -1,43 +1,86 @@
 package com.springstudy.projectboardadmin.controller;
 
+import com.springstudy.projectboardadmin.dto.request.DataTablesRequest;
+import com.springstudy.projectboardadmin.dto.response.BulkDeleteResponse;
+import com.springstudy.projectboardadmin.dto.response.DataTablesResponse;
 import com.springstudy.projectboardadmin.dto.response.UserAccountResponse;
 import com.springstudy.projectboardadmin.service.UserAccountManagementService;
+import com.springstudy.projectboardadmin.service.ReactiveUserAccountManagementService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @RequestMapping("/management/user-accounts")
 @Controller
 public class UserAccountManagementController {
 
+    /** 목록 화면에서 정렬할 수 있는 컬럼. 게시판 API 와 로컬 복제본 모두 이 속성으로 정렬할 수 있다. */
+    private static final Set<String> SORTABLE_COLUMNS = Set.of("userId", "nickname", "email", "memo", "createdBy", "createdAt");
+
     private final UserAccountManagementService userAccountManagementService;
+    private final ObjectProvider<ReactiveUserAccountManagementService> reactiveUserAccountManagementService;
 
     @GetMapping
-    public String userAccounts(Model model) {
-        model.addAttribute(
-                "userAccounts",
-                userAccountManagementService.getUserAccounts().stream().map(UserAccountResponse::from).toList()
-        );
-
+    public String userAccounts() {
         return "management/user-accounts";
     }
 
+    @ResponseBody
+    @GetMapping(params = "ids")
+    public List<UserAccountResponse> userAccountsByIds(@RequestParam List<String> ids) {
+        return userAccountManagementService.getUserAccountsByIds(ids).stream()
+                .map(UserAccountResponse::from)
+                .toList();
+    }
+
+    @ResponseBody
+    @GetMapping("/datatables")
+    public CompletableFuture<DataTablesResponse<UserAccountResponse>> userAccountsForDataTables(@RequestParam Map<String, String> params) {
+        DataTablesRequest request = DataTablesRequest.from(params, SORTABLE_COLUMNS);
+
+        return BoardCalls.call(
+                reactiveUserAccountManagementService,
+                service -> service.getUserAccounts(request.toPageable()),
+                () -> userAccountManagementService.getUserAccounts(request.toPageable())
+        ).thenApply(page -> DataTablesResponse.of(request.draw(), page.map(UserAccountResponse::from)));
+    }
+
     @ResponseBody
     @GetMapping("/{userId}")
-    public UserAccountResponse userAccount(@PathVariable String userId) {
-        return UserAccountResponse.from(userAccountManagementService.getUserAccount(userId));
+    public CompletableFuture<UserAccountResponse> userAccount(@PathVariable String userId) {
+        return BoardCalls.call(
+                reactiveUserAccountManagementService,
+                service -> service.getUserAccount(userId),
+                () -> userAccountManagementService.getUserAccount(userId)
+        ).thenApply(UserAccountResponse::from);
     }
 
-    @PostMapping("/{userId}")
-    public String deleteUserAccount(@PathVariable String userId) {
-        userAccountManagementService.deleteUserAccount(userId);
+    /**
+     * 여러 건 삭제. 목록 경로에 보내므로 {@code /{id}} 경로의 단건 요청과 겹치지 않는다.
+     */
+    @ResponseBody
+    @DeleteMapping
+    public BulkDeleteResponse<String> deleteUserAccounts(@RequestBody List<String> userIds) {
+        return userAccountManagementService.deleteUserAccounts(userIds);
+    }
 
-        return "redirect:/management/user-accounts";
+    @PostMapping("/{userId}")
+    public CompletableFuture<String> deleteUserAccount(@PathVariable String userId) {
+        return BoardCalls.<ReactiveUserAccountManagementService, Void>call(
+                reactiveUserAccountManagementService,
+                service -> service.deleteUserAccount(userId),
+                () -> {
+                    userAccountManagementService.deleteUserAccount(userId);
+                    return null;
+                }
+        ).thenApply(deleted -> "redirect:/management/user-accounts");
     }
 
 }
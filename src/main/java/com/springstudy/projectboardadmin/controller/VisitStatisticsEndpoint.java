@@ -0,0 +1,26 @@
+package com.springstudy.projectboardadmin.controller;
+
+import com.springstudy.projectboardadmin.service.VisitStatisticsService;
+import com.springstudy.projectboardadmin.service.support.SlidingWindowStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 관리 화면별 최근 한 시간의 분당 요청 수와 응답 시간 백분위({@code /actuator/visitstats})
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "visitstats")
+public class VisitStatisticsEndpoint {
+
+    private final VisitStatisticsService visitStatisticsService;
+
+    @ReadOperation
+    public Map<String, SlidingWindowStats.Snapshot> visitStats() {
+        return visitStatisticsService.snapshot();
+    }
+}
@@ -1,18 +0,0 @@
-package com.springstudy.projectboardadmin.controller.advice;
-
-import com.springstudy.projectboardadmin.service.VisitCounterService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.ControllerAdvice;
-import org.springframework.web.bind.annotation.ModelAttribute;
-
-@RequiredArgsConstructor
-@ControllerAdvice
-public class VisitCounterControllerAdvice {
-
-    private final VisitCounterService visitCounterService;
-
-    @ModelAttribute("visitCount")
-    public Long visitCount() {
-        return visitCounterService.visitCount();
-    }
-}
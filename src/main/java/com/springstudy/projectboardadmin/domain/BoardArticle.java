@@ -0,0 +1,69 @@
+package com.springstudy.projectboardadmin.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시판 게시글의 로컬 복제본. id 와 생성/수정 정보는 게시판 값을 그대로 쓴다.
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "userId"),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "modifiedAt")
+})
+@Entity
+public class BoardArticle extends BoardMirrorEntity<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(length = 50) private String userId;
+    @Column(length = 100) private String email;
+    @Column(length = 100) private String nickname;
+
+    private String title;
+    @Column(length = 10000) private String content;
+
+    private LocalDateTime createdAt;
+    @Column(length = 100) private String createdBy;
+    private LocalDateTime modifiedAt;
+    @Column(length = 100) private String modifiedBy;
+
+    protected BoardArticle() {}
+
+    private BoardArticle(Long id, String userId, String email, String nickname, String title, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        this.id = id;
+        this.userId = userId;
+        this.email = email;
+        this.nickname = nickname;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+        this.modifiedAt = modifiedAt;
+        this.modifiedBy = modifiedBy;
+    }
+
+    public static BoardArticle of(Long id, String userId, String email, String nickname, String title, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new BoardArticle(id, userId, email, nickname, title, content, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardArticle that)) return false;
+        return this.getId() != null && this.getId().equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getId());
+    }
+}
@@ -0,0 +1,106 @@
+package com.springstudy.projectboardadmin.domain;
+
+import com.springstudy.projectboardadmin.domain.constant.BoardDeletionStatus;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시판에 보낼 삭제 요청(아웃박스).
+ * 관리 화면의 삭제는 이 행을 저장하는 것으로 끝나고, 실제 게시판 호출은 백그라운드 작업이 나중에 한다.
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "status, nextAttemptAt"),
+        @Index(columnList = "resource, targetId")
+})
+@Entity
+public class BoardDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private BoardResource resource;
+
+    /** 게시판에서 지울 데이터의 id */
+    @Column(nullable = false, length = 50)
+    private String targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BoardDeletionStatus status;
+
+    /** 지금까지 게시판에 보낸 횟수 */
+    private int attempts;
+
+    /** 이 시각 이후에 다시 보낸다. */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime completedAt;
+
+    protected BoardDeletion() {}
+
+    private BoardDeletion(BoardResource resource, String targetId, LocalDateTime requestedAt) {
+        this.resource = resource;
+        this.targetId = targetId;
+        this.status = BoardDeletionStatus.PENDING;
+        this.nextAttemptAt = requestedAt;
+        this.requestedAt = requestedAt;
+    }
+
+    public static BoardDeletion of(BoardResource resource, String targetId, LocalDateTime requestedAt) {
+        return new BoardDeletion(resource, targetId, requestedAt);
+    }
+
+    public void complete(LocalDateTime completedAt) {
+        this.attempts++;
+        this.status = BoardDeletionStatus.DONE;
+        this.completedAt = completedAt;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void giveUp(LocalDateTime completedAt, String error) {
+        this.attempts++;
+        this.status = BoardDeletionStatus.FAILED;
+        this.completedAt = completedAt;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardDeletion that)) return false;
+        return this.getId() != null && this.getId().equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getId());
+    }
+}
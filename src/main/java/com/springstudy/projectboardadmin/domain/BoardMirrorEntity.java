@@ -0,0 +1,38 @@
+package com.springstudy.projectboardadmin.domain;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
+
+/**
+ * 게시판 데이터의 로컬 복제본. id 를 게시판에서 받아 쓰므로, id 만으로는 새 행인지 알 수 없다.
+ * 그대로 {@code save} 하면 매번 {@code merge} 가 되어 건마다 SELECT 를 한 번 더 하므로,
+ * 저장된 행인지를 직접 들고 있다가 새 행은 바로 INSERT 한다.
+ */
+@MappedSuperclass
+public abstract class BoardMirrorEntity<ID> implements Persistable<ID> {
+
+    @Transient
+    private boolean stored;
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    /**
+     * 이미 저장된 행으로 표시한다. 저장할 때 INSERT 대신 UPDATE 를 한다.
+     */
+    public void markStored() {
+        this.stored = true;
+    }
+
+    @PostLoad
+    @PostPersist
+    void onStored() {
+        this.stored = true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.springstudy.projectboardadmin.domain;
+
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 데이터 종류별 동기화 진행 상황.
+ * 다음 변경분 동기화는 {@link #modifiedAt} 이후에 수정된 데이터만 받는다.
+ */
+@Getter
+@ToString
+@Entity
+public class BoardSyncWatermark {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private BoardResource resource;
+
+    /** 지금까지 반영한 데이터 중 가장 최근 수정일시 (게시판 기준) */
+    @Setter private LocalDateTime modifiedAt;
+
+    /** 마지막 동기화 완료 일시 */
+    @Setter private LocalDateTime syncedAt;
+
+    /** 마지막 전체 동기화 완료 일시 */
+    @Setter private LocalDateTime fullySyncedAt;
+
+    protected BoardSyncWatermark() {}
+
+    private BoardSyncWatermark(BoardResource resource) {
+        this.resource = resource;
+    }
+
+    public static BoardSyncWatermark of(BoardResource resource) {
+        return new BoardSyncWatermark(resource);
+    }
+}
@@ -0,0 +1,70 @@
+package com.springstudy.projectboardadmin.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시판 회원의 로컬 복제본. 생성/수정 정보는 게시판 값을 그대로 쓴다.
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "email"),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "modifiedAt")
+})
+@Entity
+public class BoardUserAccount extends BoardMirrorEntity<String> {
+
+    @Id
+    @Column(length = 50)
+    private String userId;
+
+    @Column(length = 100) private String email;
+    @Column(length = 100) private String nickname;
+    private String memo;
+
+    private LocalDateTime createdAt;
+    @Column(length = 100) private String createdBy;
+    private LocalDateTime modifiedAt;
+    @Column(length = 100) private String modifiedBy;
+
+    protected BoardUserAccount() {}
+
+    private BoardUserAccount(String userId, String email, String nickname, String memo, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        this.userId = userId;
+        this.email = email;
+        this.nickname = nickname;
+        this.memo = memo;
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+        this.modifiedAt = modifiedAt;
+        this.modifiedBy = modifiedBy;
+    }
+
+    public static BoardUserAccount of(String userId, String email, String nickname, String memo, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new BoardUserAccount(userId, email, nickname, memo, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+
+
+    @Override
+    public String getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardUserAccount that)) return false;
+        return this.getUserId() != null && this.getUserId().equals(that.getUserId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getUserId());
+    }
+}
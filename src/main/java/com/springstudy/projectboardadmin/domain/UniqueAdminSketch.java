@@ -0,0 +1,41 @@
+package com.springstudy.projectboardadmin.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import java.time.LocalDate;
+
+/**
+ * 하루 동안 관리 화면을 본 어드민 계정의 HyperLogLog 스케치. 모든 어드민 노드가 같은 행에 자기 노드의 스케치를 합친다.
+ */
+@Getter
+@ToString(exclude = "registers")
+@Entity
+public class UniqueAdminSketch {
+
+    @Id
+    private LocalDate visitDate;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] registers;
+
+    protected UniqueAdminSketch() {}
+
+    private UniqueAdminSketch(LocalDate visitDate, byte[] registers) {
+        this.visitDate = visitDate;
+        this.registers = registers;
+    }
+
+    public static UniqueAdminSketch of(LocalDate visitDate, byte[] registers) {
+        return new UniqueAdminSketch(visitDate, registers);
+    }
+
+    public void setRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+}
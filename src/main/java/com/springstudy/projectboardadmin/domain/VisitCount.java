@@ -0,0 +1,36 @@
+package com.springstudy.projectboardadmin.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 관리 화면별 누적 방문 수. 모든 어드민 노드가 같은 행에 자기 노드에서 센 만큼을 더한다.
+ */
+@Getter
+@ToString
+@Entity
+public class VisitCount {
+
+    /** 화면의 URI 패턴 */
+    @Id
+    @Column(length = 100)
+    private String endpoint;
+
+    @Column(nullable = false)
+    private long visits;
+
+    protected VisitCount() {}
+
+    private VisitCount(String endpoint, long visits) {
+        this.endpoint = endpoint;
+        this.visits = visits;
+    }
+
+    public static VisitCount of(String endpoint, long visits) {
+        return new VisitCount(endpoint, visits);
+    }
+}
@@ -0,0 +1,19 @@
+package com.springstudy.projectboardadmin.domain.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시판 삭제 요청 처리 상태
+ */
+@RequiredArgsConstructor
+public enum BoardDeletionStatus {
+
+    PENDING("대기"),
+    DONE("완료"),
+    FAILED("포기")
+    ;
+
+    @Getter private final String description;
+
+}
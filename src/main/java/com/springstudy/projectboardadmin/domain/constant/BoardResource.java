@@ -0,0 +1,21 @@
+package com.springstudy.projectboardadmin.domain.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 어드민이 다루는 게시판 데이터 종류
+ */
+@RequiredArgsConstructor
+public enum BoardResource {
+
+    ARTICLE("게시글", "articles"),
+    ARTICLE_COMMENT("댓글", "articleComments"),
+    USER_ACCOUNT("회원", "userAccounts")
+    ;
+
+    @Getter private final String description;
+    /** 게시판 API 경로({@code /api/} 다음) */
+    @Getter private final String apiPath;
+
+}
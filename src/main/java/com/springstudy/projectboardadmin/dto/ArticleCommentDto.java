@@ -1,5 +1,7 @@
 package com.springstudy.projectboardadmin.dto;
 
+import com.springstudy.projectboardadmin.domain.BoardArticleComment;
+
 import java.time.LocalDateTime;
 
 public record ArticleCommentDto(
@@ -17,4 +19,20 @@ public record ArticleCommentDto(
     public static ArticleCommentDto of(Long id, Long articleId, UserAccountDto userAccount, Long parentCommentId, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
         return new ArticleCommentDto(id, articleId, userAccount, parentCommentId, content, createdAt, createdBy, modifiedAt, modifiedBy);
     }
+
+    public BoardArticleComment toEntity() {
+        return BoardArticleComment.of(
+                id,
+                articleId,
+                parentCommentId,
+                userAccount == null ? null : userAccount.userId(),
+                userAccount == null ? null : userAccount.email(),
+                userAccount == null ? null : userAccount.nickname(),
+                content,
+                createdAt,
+                createdBy,
+                modifiedAt,
+                modifiedBy
+        );
+    }
 }
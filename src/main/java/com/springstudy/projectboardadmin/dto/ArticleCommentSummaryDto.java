@@ -0,0 +1,29 @@
+package com.springstudy.projectboardadmin.dto;
+
+import com.springstudy.projectboardadmin.domain.BoardArticleComment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 화면용 요약 정보. 본문은 앞부분만 받는다.
+ */
+public record ArticleCommentSummaryDto(
+        Long id,
+        UserAccountDto userAccount,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    public static ArticleCommentSummaryDto of(Long id, UserAccountDto userAccount, String content, LocalDateTime createdAt) {
+        return new ArticleCommentSummaryDto(id, userAccount, content, createdAt);
+    }
+
+    public static ArticleCommentSummaryDto from(BoardArticleComment entity) {
+        return new ArticleCommentSummaryDto(
+                entity.getId(),
+                UserAccountDto.of(entity.getUserId(), entity.getEmail(), entity.getNickname(), null),
+                entity.getContent(),
+                entity.getCreatedAt()
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package com.springstudy.projectboardadmin.dto;
 
+import com.springstudy.projectboardadmin.domain.BoardArticle;
+
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -19,4 +21,19 @@ public record ArticleDto(
         return new ArticleDto(id, userAccountDto, title, content, hashtags, createdAt, createdBy, modifiedAt, modifiedBy);
     }
 
+    public BoardArticle toEntity() {
+        return BoardArticle.of(
+                id,
+                userAccount == null ? null : userAccount.userId(),
+                userAccount == null ? null : userAccount.email(),
+                userAccount == null ? null : userAccount.nickname(),
+                title,
+                content,
+                createdAt,
+                createdBy,
+                modifiedAt,
+                modifiedBy
+        );
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.springstudy.projectboardadmin.dto;
+
+import com.springstudy.projectboardadmin.domain.BoardArticle;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 화면용 요약 정보. 본문은 받지 않는다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        UserAccountDto userAccount,
+        LocalDateTime createdAt
+) {
+
+    public static ArticleSummaryDto of(Long id, String title, UserAccountDto userAccount, LocalDateTime createdAt) {
+        return new ArticleSummaryDto(id, title, userAccount, createdAt);
+    }
+
+    public static ArticleSummaryDto from(BoardArticle entity) {
+        return new ArticleSummaryDto(
+                entity.getId(),
+                entity.getTitle(),
+                UserAccountDto.of(entity.getUserId(), entity.getEmail(), entity.getNickname(), null),
+                entity.getCreatedAt()
+        );
+    }
+}
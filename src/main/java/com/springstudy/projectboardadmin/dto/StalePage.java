@@ -0,0 +1,35 @@
+package com.springstudy.projectboardadmin.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 게시판이 응답하지 못해, 마지막으로 성공했던 목록 응답을 대신 돌려줄 때 쓰는 {@link Page}.
+ * {@link #map(Function)} 으로 변환해도 오래된 응답이라는 표시가 유지된다.
+ */
+@Getter
+public class StalePage<T> extends PageImpl<T> {
+
+    /** 원래 응답을 받은 일시 */
+    private final LocalDateTime fetchedAt;
+
+    private StalePage(List<T> content, Pageable pageable, long total, LocalDateTime fetchedAt) {
+        super(content, pageable, total);
+        this.fetchedAt = fetchedAt;
+    }
+
+    public static <T> StalePage<T> of(Page<T> page, LocalDateTime fetchedAt) {
+        return new StalePage<>(page.getContent(), page.getPageable(), page.getTotalElements(), fetchedAt);
+    }
+
+    @Override
+    public <U> StalePage<U> map(Function<? super T, ? extends U> converter) {
+        return new StalePage<>(getConvertedContent(converter), getPageable(), getTotalElements(), fetchedAt);
+    }
+}
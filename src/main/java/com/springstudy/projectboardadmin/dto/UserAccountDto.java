@@ -1,5 +1,6 @@
 package com.springstudy.projectboardadmin.dto;
 
+import com.springstudy.projectboardadmin.domain.BoardUserAccount;
 import com.springstudy.projectboardadmin.domain.constant.RoleType;
 
 import java.time.LocalDateTime;
@@ -25,4 +26,30 @@ public record UserAccountDto(
         return new UserAccountDto(userId, email, nickname, memo, createdAt, createdBy, modifiedAt, modifiedBy);
     }
 
+    public static UserAccountDto from(BoardUserAccount entity) {
+        return new UserAccountDto(
+                entity.getUserId(),
+                entity.getEmail(),
+                entity.getNickname(),
+                entity.getMemo(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy()
+        );
+    }
+
+    public BoardUserAccount toEntity() {
+        return BoardUserAccount.of(
+                userId,
+                email,
+                nickname,
+                memo,
+                createdAt,
+                createdBy,
+                modifiedAt,
+                modifiedBy
+        );
+    }
+
 }
@@ -1,19 +1,324 @@
 package com.springstudy.projectboardadmin.dto.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 /**
  * 어드민 프로젝트 전용 프로퍼티
  *
  * @param board 게시판 관련 프로퍼티
+ * @param visit 관리 화면 방문 수 관련 프로퍼티
  */
 @ConfigurationProperties("project")
-public record ProjectProperties(Board board) {
+public record ProjectProperties(Board board, @DefaultValue Visit visit) {
 
     /**
      * 게시판 관련 프로퍼티
      *
      * @param url 게시판 서비스 호스트명
+     * @param pageSize 전체 목록을 페이지 단위로 순회할 때 한 번에 요청하는 페이지 크기
+     * @param fetch 전체 목록 조회 방식
+     * @param pool 게시판 API 호출용 HTTP 커넥션 풀
+     * @param conditionalGet 조건부 요청(ETag, Last-Modified) 설정
+     * @param listProjection 목록 화면에서 요청할 게시판 API 의 projection 이름
+     * @param reactive 논블로킹 게시판 클라이언트 설정
+     * @param mirror 게시판 데이터를 어드민 DB 에 복제해 두는 동기화 설정
+     * @param resilience 게시판 API 장애 격리(서킷 브레이커, 벌크헤드) 설정
+     * @param bulkDelete 여러 건을 한 번에 삭제할 때의 동시 요청 설정
+     * @param deletionOutbox 삭제 요청을 어드민 DB 에 먼저 기록하고 나중에 게시판에 보내는 설정
+     * @param prefetch 목록에 보이는 페이지의 상세 정보를 미리 받아 두는 설정
+     * @param listSnapshot 목록 응답을 기억해 두고 백그라운드에서 다시 받는 설정
+     * @param healthCheck 게시판 상태 확인 설정
+     * @param warmUp 시작 직후 예열 설정
+     */
+    public record Board(
+            String url,
+            @DefaultValue("500") int pageSize,
+            @DefaultValue Fetch fetch,
+            @DefaultValue Pool pool,
+            @DefaultValue ConditionalGet conditionalGet,
+            @DefaultValue ListProjection listProjection,
+            @DefaultValue Reactive reactive,
+            @DefaultValue Mirror mirror,
+            @DefaultValue Resilience resilience,
+            @DefaultValue BulkDelete bulkDelete,
+            @DefaultValue DeletionOutbox deletionOutbox,
+            @DefaultValue Prefetch prefetch,
+            @DefaultValue ListSnapshot listSnapshot,
+            @DefaultValue HealthCheck healthCheck,
+            @DefaultValue WarmUp warmUp
+    ) {}
+
+    /**
+     * 전체 목록 조회 방식
+     *
+     * @param parallel 전체 목록(미러 전체 동기화)을 받을 때, 첫 페이지를 받은 뒤 다음 페이지들을 동시에 요청할지 여부.
+     *                 끄면(기본값) 한 페이지씩 요청하고 응답 본문을 읽는 대로 하나씩 넘겨받으므로, 페이지 하나도 통째로 들고 있지 않는다.
+     *                 켜면 게시판 응답 시간만큼 기다리는 횟수가 줄어 빨라지지만, 앞질러 받은 페이지를 넘겨줄 때까지
+     *                 {@code parallelism} 개의 페이지를 객체로 만들어 들고 있어야 한다.
+     * @param parallelism 동시에 요청할 수 있는 최대 페이지 수. 모든 전체 목록 조회가 공유한다.
+     * @param batchMaxIds 여러 건 조회({@code ?ids=})에서 한 번에 조회할 수 있는 최대 건수. DataTables 한 페이지를 넉넉히 담는다.
+     */
+    public record Fetch(
+            @DefaultValue("false") boolean parallel,
+            @DefaultValue("4") int parallelism,
+            @DefaultValue("100") int batchMaxIds
+    ) {}
+
+    /**
+     * 게시판 API 호출용 HTTP 커넥션 풀
+     *
+     * @param maxTotal 풀 전체의 최대 커넥션 수
+     * @param maxPerRoute 호스트(route) 하나당 최대 커넥션 수
+     * @param idleEviction 이 시간 이상 쉬고 있는 커넥션은 백그라운드에서 정리한다.
+     * @param keepAlive 서버가 {@code Keep-Alive} 헤더를 주지 않을 때 커넥션을 재사용할 최대 시간
+     * @param connectTimeout TCP 연결 타임아웃
+     * @param readTimeout 응답 대기(소켓 읽기) 타임아웃
+     * @param acquireTimeout 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+     */
+    public record Pool(
+            @DefaultValue("50") int maxTotal,
+            @DefaultValue("20") int maxPerRoute,
+            @DefaultValue("30s") Duration idleEviction,
+            @DefaultValue("30s") Duration keepAlive,
+            @DefaultValue("2s") Duration connectTimeout,
+            @DefaultValue("5s") Duration readTimeout,
+            @DefaultValue("1s") Duration acquireTimeout
+    ) {}
+
+    /**
+     * 조건부 요청(ETag, Last-Modified) 설정
+     *
+     * @param enabled 응답의 검증자를 기억해 두었다가 조건부 요청을 보낼지 여부
+     * @param maxEntries 검증자와 응답 객체를 기억해 둘 최대 URI 개수
+     */
+    public record ConditionalGet(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("200") int maxEntries
+    ) {}
+
+    /**
+     * 목록 화면에서 요청할 게시판 API 의 projection 이름.
+     * 게시판이 모르는 projection 이면 기본 표현으로 응답하므로, 요약 DTO 는 기본 표현도 읽을 수 있다.
+     *
+     * @param article 게시글 목록용 projection (id, 제목, 작성자 닉네임, 작성일시)
+     * @param articleComment 댓글 목록용 projection (id, 작성자 닉네임, 앞부분만 자른 본문, 작성일시)
+     */
+    public record ListProjection(
+            @DefaultValue("articleSummary") String article,
+            @DefaultValue("articleCommentSummary") String articleComment
+    ) {}
+
+    /**
+     * 논블로킹 게시판 클라이언트 설정.
+     * 켜면 관리 화면의 데이터 API 가 {@code WebClient} 로 게시판을 호출하고, 응답을 기다리는 동안 서블릿 스레드를 반납한다.
+     * 커넥션 수와 타임아웃은 {@link Pool} 설정을 그대로 따른다.
+     *
+     * @param enabled 논블로킹 클라이언트를 사용할지 여부
+     */
+    public record Reactive(
+            @DefaultValue("false") boolean enabled
+    ) {}
+
+    /**
+     * 게시판 데이터를 어드민 DB 에 복제해 두는 동기화 설정.
+     * 켜면 게시글, 댓글, 회원을 주기적으로 받아 로컬 테이블에 반영하고, 관리 화면의 목록은 로컬 테이블에서 조회한다.
+     *
+     * @param enabled 동기화와 로컬 조회를 사용할지 여부
+     * @param syncInterval 변경분 동기화 주기. 이전 동기화가 끝난 뒤부터 잰다.
+     * @param fullSyncInterval 전체 동기화 주기. 게시판에서 삭제된 데이터는 전체 동기화 때 로컬에서도 지운다.
+     * @param overlap 변경분을 받을 때 워터마크보다 이만큼 앞선 시점부터 다시 받는다. 시계 차이와 동기화 도중의 수정을 흡수한다.
+     * @param batchSize 로컬 테이블에 한 번에 저장하는 행 수
+     */
+    public record Mirror(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("30s") Duration syncInterval,
+            @DefaultValue("1h") Duration fullSyncInterval,
+            @DefaultValue("1m") Duration overlap,
+            @DefaultValue("500") int batchSize
+    ) {}
+
+    /**
+     * 게시판 API 장애 격리 설정.
+     * 서킷이 열렸거나 벌크헤드가 가득 차 요청을 보내지 못하면, 목록 화면은 마지막으로 성공한 응답을 오래된 데이터로 표시해 보여준다.
+     *
+     * @param circuitBreaker 게시판 전체에 하나인 서킷 브레이커
+     * @param bulkhead 엔드포인트(메서드 + URI 템플릿)별 동시 요청 제한
+     * @param adaptiveLimit 사용자가 직접 보낸 요청의 동시 요청 한도. 응답 시간을 보고 스스로 조절한다.
+     * @param backgroundLimit 백그라운드 작업(미리 받기, 복제본 동기화, 목록 다시 받기, 삭제 아웃박스, 상태 확인)이 보내는 요청의 동시 요청 한도.
+     *                        {@code adaptiveLimit} 과 따로 세므로, 백그라운드 작업이 몰려도 사용자 요청의 자리를 차지하지 않는다.
+     */
+    public record Resilience(
+            @DefaultValue CircuitBreaker circuitBreaker,
+            @DefaultValue Bulkhead bulkhead,
+            @DefaultValue AdaptiveLimit adaptiveLimit,
+            @DefaultValue AdaptiveLimit backgroundLimit
+    ) {}
+
+    /**
+     * 게시판 API 서킷 브레이커. 최근 {@code slidingWindowSize} 번의 호출 중 실패율이나 느린 호출 비율이
+     * 임계치를 넘으면 서킷을 열어 {@code waitInOpenState} 동안 요청을 보내지 않는다.
+     *
+     * @param failureRateThreshold 서킷을 여는 실패율(%). 연결 오류, 타임아웃, 5xx 응답을 실패로 센다.
+     * @param slowCallRateThreshold 서킷을 여는 느린 호출 비율(%)
+     * @param slowCallDuration 이보다 오래 걸린 호출을 느린 호출로 센다.
+     * @param slidingWindowSize 실패율을 계산할 최근 호출 수
+     * @param minimumNumberOfCalls 실패율을 계산하기 위한 최소 호출 수
+     * @param waitInOpenState 서킷이 열린 뒤 반만 열린 상태로 넘어가기까지 기다리는 시간
+     * @param permittedCallsInHalfOpenState 반만 열린 상태에서 시험 삼아 보내는 호출 수
+     */
+    public record CircuitBreaker(
+            @DefaultValue("50") float failureRateThreshold,
+            @DefaultValue("80") float slowCallRateThreshold,
+            @DefaultValue("2s") Duration slowCallDuration,
+            @DefaultValue("20") int slidingWindowSize,
+            @DefaultValue("10") int minimumNumberOfCalls,
+            @DefaultValue("30s") Duration waitInOpenState,
+            @DefaultValue("3") int permittedCallsInHalfOpenState
+    ) {}
+
+    /**
+     * 엔드포인트별 동시 요청 제한. 한 엔드포인트가 느려져도 커넥션 풀과 서블릿 스레드를 혼자 다 차지하지 못하게 한다.
+     *
+     * @param maxConcurrentCalls 엔드포인트 하나당 동시에 보낼 수 있는 최대 요청 수
+     * @param maxWait 자리가 날 때까지 기다리는 최대 시간. 넘으면 요청을 거절한다.
+     */
+    public record Bulkhead(
+            @DefaultValue("10") int maxConcurrentCalls,
+            @DefaultValue("0ms") Duration maxWait
+    ) {}
+
+    /**
+     * 적응형 동시 요청 한도(AIMD). 응답이 빠르고 한도를 넉넉히 쓰고 있으면 한도를 1씩 늘리고,
+     * 응답이 평소보다 느려지거나 실패하면 한도를 일정 비율로 줄인다. 한도를 넘은 요청은 기다리지 않고 바로 거절한다.
+     *
+     * @param initialLimit 처음 한도
+     * @param minLimit 게시판이 아무리 느려져도 유지하는 최소 한도
+     * @param maxLimit 최대 한도. 커넥션 풀 크기({@code pool.max-total})보다 크게 잡을 이유는 없다.
+     * @param backoffRatio 한도를 줄일 때 곱하는 비율
+     * @param latencyTolerance 응답 시간이 평소(이동 평균)의 이 배수를 넘으면 느려진 것으로 본다.
+     */
+    public record AdaptiveLimit(
+            @DefaultValue("10") int initialLimit,
+            @DefaultValue("2") int minLimit,
+            @DefaultValue("50") int maxLimit,
+            @DefaultValue("0.9") double backoffRatio,
+            @DefaultValue("2.0") double latencyTolerance
+    ) {}
+
+    /**
+     * 여러 건 삭제 설정
+     *
+     * @param parallelism 동시에 보낼 수 있는 최대 삭제 요청 수. 모든 여러 건 삭제가 공유한다.
+     * @param maxIds 한 번에 삭제를 요청할 수 있는 최대 건수
+     */
+    public record BulkDelete(
+            @DefaultValue("4") int parallelism,
+            @DefaultValue("1000") int maxIds
+    ) {}
+
+    /**
+     * 삭제 아웃박스 설정.
+     * 켜면 관리 화면의 삭제는 어드민 DB 에 삭제 요청을 기록하는 것으로 끝나고, 백그라운드 작업이 게시판에 보낸다.
+     * 게시판이 실패하면 {@code initialBackoff} 부터 두 배씩, {@code maxBackoff} 까지 늘려가며 다시 보낸다.
+     *
+     * @param enabled 아웃박스를 사용할지 여부. 끄면 삭제 때 게시판을 바로 호출한다.
+     * @param pollInterval 밀린 삭제 요청을 확인하는 주기. 이전 처리가 끝난 뒤부터 잰다.
+     * @param batchSize 한 번에 꺼내 처리하는 삭제 요청 수
+     * @param initialBackoff 첫 실패 뒤 다시 보내기까지 기다리는 시간
+     * @param maxBackoff 다시 보내기까지 기다리는 최대 시간
+     * @param maxAttempts 이만큼 실패하면 포기하고 실패로 남긴다.
+     * @param retention 끝난 삭제 요청을 지우지 않고 남겨 두는 기간
+     */
+    public record DeletionOutbox(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("5s") Duration pollInterval,
+            @DefaultValue("50") int batchSize,
+            @DefaultValue("5s") Duration initialBackoff,
+            @DefaultValue("10m") Duration maxBackoff,
+            @DefaultValue("20") int maxAttempts,
+            @DefaultValue("7d") Duration retention
+    ) {}
+
+    /**
+     * 상세 정보 미리 받기 설정. 목록 페이지를 보여줄 때, 그 페이지 항목의 상세 정보를 백그라운드에서 받아 단건 조회 캐시에 넣어 둔다.
+     *
+     * @param enabled 미리 받기를 사용할지 여부
+     * @param threads 미리 받기 전용 스레드 수
+     * @param queueCapacity 미리 받기 대기열 크기. 가득 차면 남은 건은 버린다.
+     * @param maxInFlightRatio 게시판으로 나가는 요청이 동시 요청 한도의 이 비율 이상이면 미리 받기를 멈춘다.
+     */
+    public record Prefetch(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("2") int threads,
+            @DefaultValue("50") int queueCapacity,
+            @DefaultValue("0.5") double maxInFlightRatio
+    ) {}
+
+    /**
+     * 목록 스냅샷 설정. 게시판 목록 응답을 요청 URI 별로 기억해 둔다.
+     * 켜면 기억해 둔 목록이 있는 한 게시판을 기다리지 않고 바로 돌려주고, 백그라운드에서 {@code refreshInterval} 마다
+     * 최근에 본 목록을 다시 받아 교체한다(stale-while-revalidate). 끄면 게시판이 요청을 거절했을 때만 기억해 둔 목록을 쓴다.
+     *
+     * @param enabled 기억해 둔 목록을 먼저 돌려줄지 여부
+     * @param refreshInterval 목록을 다시 받는 주기. 이보다 오래된 목록을 요청받으면 그 자리에서도 다시 받기를 시작한다.
+     * @param idleTimeout 이 기간 동안 아무도 보지 않은 목록은 더 이상 다시 받지 않고 버린다.
+     * @param staleAfter 다시 받기가 계속 실패해 목록이 이보다 오래되면, 오래된 데이터로 표시해 돌려준다.
+     * @param refreshThreads 다시 받기 전용 스레드 수
+     * @param maxEntries 기억해 둘 목록 응답의 최대 개수
+     * @param persist 기억해 둔 목록을 파일에 저장해 두고, 다시 시작할 때 읽어 올지 여부
+     * @param file 목록을 저장할 파일 경로
+     * @param persistInterval 목록을 파일에 저장하는 주기. 종료할 때도 한 번 저장한다.
+     */
+    public record ListSnapshot(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("30s") Duration refreshInterval,
+            @DefaultValue("10m") Duration idleTimeout,
+            @DefaultValue("2m") Duration staleAfter,
+            @DefaultValue("2") int refreshThreads,
+            @DefaultValue("200") int maxEntries,
+            @DefaultValue("false") boolean persist,
+            @DefaultValue("board-list-snapshots.bin") String file,
+            @DefaultValue("1m") Duration persistInterval
+    ) {}
+
+    /**
+     * 게시판 상태 확인 설정. 게시판에 요청해 응답 시간을 재고, {@code latencySlo} 안에 정상 응답하면 UP 으로 본다.
+     *
+     * @param path 상태 확인에 요청할 게시판 경로
+     * @param latencySlo 게시판이 이 시간 안에 응답해야 UP 이다.
+     */
+    public record HealthCheck(
+            @DefaultValue("/api") String path,
+            @DefaultValue("1s") Duration latencySlo
+    ) {}
+
+    /**
+     * 시작 직후 예열 설정. 예열이 끝나고 게시판 상태가 UP 이 될 때까지 readiness 를 DOWN 으로 둔다.
+     *
+     * @param enabled 예열할지 여부. 끄면 처음부터 준비된 것으로 본다.
+     * @param iterations JSON 역직렬화처럼 게시판 없이 할 수 있는 예열을 반복하는 횟수
+     * @param retryInterval 게시판 상태가 UP 이 아닐 때 다시 확인하기까지 기다리는 시간
+     * @param maxWait 게시판 상태가 UP 이 되기를 기다리는 최대 시간. 넘으면 게시판을 기다리지 않고 준비된 것으로 본다.
+     */
+    public record WarmUp(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("200") int iterations,
+            @DefaultValue("2s") Duration retryInterval,
+            @DefaultValue("2m") Duration maxWait
+    ) {}
+
+    /**
+     * 관리 화면 방문 수 관련 프로퍼티.
+     * 노드마다 방문 수를 메모리에서 세다가 {@code flushInterval} 마다 어드민 DB 에 한꺼번에 더하고, 모든 노드의 누적 방문 수를 다시 읽어 둔다.
+     *
+     * @param flushInterval 센 방문 수를 DB 에 더하고 누적 방문 수를 다시 읽는 주기
+     * @param uniqueAdminDays 서로 다른 어드민 방문자 수를 셀 수 있는 가장 긴 기간(일). 날짜별 스케치를 이만큼만 둔다.
      */
-    public record Board(String url) {}
+    public record Visit(
+            @DefaultValue("10s") Duration flushInterval,
+            @DefaultValue("7") int uniqueAdminDays
+    ) {}
 }
@@ -0,0 +1,84 @@
+package com.springstudy.projectboardadmin.dto.request;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DataTables 서버 사이드 처리 요청 파라미터
+ *
+ * @param draw 요청 순번. 응답에 그대로 돌려주어야 한다.
+ * @param start 현재 페이지의 첫 행 인덱스
+ * @param length 페이지 크기
+ * @param searchValue 검색창 입력값
+ * @param orderProperty 정렬 기준 컬럼의 {@code data} 속성. 정렬하지 않거나 정렬할 수 없는 컬럼이면 {@code null}
+ * @param orderDirection 정렬 방향
+ */
+public record DataTablesRequest(
+        int draw,
+        int start,
+        int length,
+        String searchValue,
+        String orderProperty,
+        Sort.Direction orderDirection
+) {
+
+    public static final int DEFAULT_LENGTH = 10;
+    public static final int MAX_LENGTH = 100;
+
+    /** 검색어로 걸러내기 전 전체 건수만 알면 될 때 요청하는 페이지. 첫 페이지 한 건만 받는다. */
+    public static final Pageable TOTAL_COUNT_PAGE = PageRequest.of(0, 1);
+
+    public static DataTablesRequest of(int draw, int start, int length, String searchValue, String orderProperty, Sort.Direction orderDirection) {
+        return new DataTablesRequest(draw, start, length, searchValue, orderProperty, orderDirection);
+    }
+
+    /**
+     * DataTables 가 보내는 {@code search[value]}, {@code order[0][column]}, {@code columns[i][data]} 형태의 파라미터를 해석한다.
+     * 컬럼 이름은 클라이언트가 보낸 값이므로, {@code sortableProperties} 에 없는 컬럼으로는 정렬하지 않는다.
+     *
+     * @param sortableProperties 화면에서 정렬할 수 있는 컬럼의 {@code data} 속성
+     */
+    public static DataTablesRequest from(Map<String, String> params, Set<String> sortableProperties) {
+        int length = parseInt(params.get("length"), DEFAULT_LENGTH);
+        if (length <= 0) { length = DEFAULT_LENGTH; }
+
+        String orderProperty = null;
+        String orderColumn = params.get("order[0][column]");
+        if (orderColumn != null && !"false".equals(params.get("columns[" + orderColumn + "][orderable]"))) {
+            orderProperty = params.get("columns[" + orderColumn + "][data]");
+        }
+        if (orderProperty != null && !sortableProperties.contains(orderProperty)) { orderProperty = null; } // Set.of 는 null 을 찾으면 예외를 던진다.
+
+        return DataTablesRequest.of(
+                parseInt(params.get("draw"), 0),
+                Math.max(parseInt(params.get("start"), 0), 0),
+                Math.min(length, MAX_LENGTH),
+                params.get("search[value]"),
+                orderProperty,
+                Sort.Direction.fromOptionalString(params.get("order[0][dir]")).orElse(Sort.Direction.ASC)
+        );
+    }
+
+    public boolean hasSearchValue() {
+        return StringUtils.hasText(searchValue);
+    }
+
+    public Pageable toPageable() {
+        Sort sort = orderProperty == null ? Sort.unsorted() : Sort.by(orderDirection, orderProperty);
+
+        return PageRequest.of(start / length, length, sort);
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 public record ArticleClientResponse(
         @JsonProperty("_embedded")Embedded embedded,
         @JsonProperty("page") Page page
-) {
+) implements PagedClientResponse<ArticleDto> {
 
     public static ArticleClientResponse empty() {
         return new ArticleClientResponse(
@@ -26,6 +26,10 @@ public record ArticleClientResponse(
 
     public List<ArticleDto> articles() { return this.embedded().articles(); }
 
+    @Override public List<ArticleDto> content() { return articles(); }
+    @Override public int totalPages() { return this.page().totalPages(); }
+    @Override public int number() { return this.page().number(); }
+
     public record Embedded(List<ArticleDto> articles) {}
 
     public record Page(
@@ -8,7 +8,7 @@ import java.util.List;
 public record ArticleCommentClientResponse(
         @JsonProperty("_embedded") Embedded embedded,
         @JsonProperty("page") Page page
-) {
+) implements PagedClientResponse<ArticleCommentDto> {
 
     public static ArticleCommentClientResponse empty() {
         return new ArticleCommentClientResponse(
@@ -26,6 +26,10 @@ public record ArticleCommentClientResponse(
 
     public List<ArticleCommentDto> articleComments() { return this.embedded().articleComments(); }
 
+    @Override public List<ArticleCommentDto> content() { return articleComments(); }
+    @Override public int totalPages() { return this.page().totalPages(); }
+    @Override public int number() { return this.page().number(); }
+
     public record Embedded(List<ArticleCommentDto> articleComments) {}
 
     public record Page(
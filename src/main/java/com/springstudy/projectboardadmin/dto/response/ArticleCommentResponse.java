@@ -2,6 +2,7 @@ package com.springstudy.projectboardadmin.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.springstudy.projectboardadmin.dto.ArticleCommentDto;
+import com.springstudy.projectboardadmin.dto.ArticleCommentSummaryDto;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,8 @@ public record ArticleCommentResponse(
         LocalDateTime createdAt
 ) {
 
+    public static final int SUMMARY_CONTENT_LENGTH = 100;
+
     public static ArticleCommentResponse of(Long id, UserAccountDto userAccount, String content, LocalDateTime createdAt) {
         return new ArticleCommentResponse(id, userAccount, content, createdAt);
     }
@@ -21,4 +24,16 @@ public record ArticleCommentResponse(
     public static ArticleCommentResponse of(ArticleCommentDto dto) {
         return ArticleCommentResponse.of(dto.id(), dto.userAccount(), dto.content(), dto.createdAt());
     }
+
+    /**
+     * 목록 화면용. 게시판이 본문을 자르지 않고 보내더라도 {@value #SUMMARY_CONTENT_LENGTH}자까지만 내려준다.
+     */
+    public static ArticleCommentResponse withTruncatedContent(ArticleCommentSummaryDto dto) {
+        String content = dto.content();
+        if (content != null && content.length() > SUMMARY_CONTENT_LENGTH) {
+            content = content.substring(0, SUMMARY_CONTENT_LENGTH) + "…";
+        }
+
+        return ArticleCommentResponse.of(dto.id(), dto.userAccount(), content, dto.createdAt());
+    }
 }
@@ -0,0 +1,41 @@
+package com.springstudy.projectboardadmin.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.springstudy.projectboardadmin.dto.ArticleCommentSummaryDto;
+
+import java.util.List;
+
+public record ArticleCommentSummaryClientResponse(
+        @JsonProperty("_embedded") Embedded embedded,
+        @JsonProperty("page") Page page
+) implements PagedClientResponse<ArticleCommentSummaryDto> {
+
+    public static ArticleCommentSummaryClientResponse empty() {
+        return new ArticleCommentSummaryClientResponse(
+                new Embedded(List.of()),
+                new Page(1, 0, 1, 0)
+        );
+    }
+
+    public static ArticleCommentSummaryClientResponse of(List<ArticleCommentSummaryDto> articleComments) {
+        return new ArticleCommentSummaryClientResponse(
+                new Embedded(articleComments),
+                new Page(articleComments.size(), articleComments.size(), 1, 0)
+        );
+    }
+
+    public List<ArticleCommentSummaryDto> articleComments() { return this.embedded().articleComments(); }
+
+    @Override public List<ArticleCommentSummaryDto> content() { return articleComments(); }
+    @Override public int totalPages() { return this.page().totalPages(); }
+    @Override public int number() { return this.page().number(); }
+
+    public record Embedded(List<ArticleCommentSummaryDto> articleComments) {}
+
+    public record Page(
+            int size,
+            long totalElements,
+            int totalPages,
+            int number
+    ) {}
+}
@@ -2,6 +2,7 @@ package com.springstudy.projectboardadmin.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.ArticleSummaryDto;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 
 import java.time.LocalDateTime;
@@ -26,4 +27,8 @@ public record ArticleResponse(
     public static ArticleResponse withoutContent(ArticleDto dto) {
         return ArticleResponse.of(dto.id(), dto.userAccount(), dto.title(), null, dto.createdAt());
     }
+
+    public static ArticleResponse withoutContent(ArticleSummaryDto dto) {
+        return ArticleResponse.of(dto.id(), dto.userAccount(), dto.title(), null, dto.createdAt());
+    }
 }
@@ -0,0 +1,41 @@
+package com.springstudy.projectboardadmin.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.springstudy.projectboardadmin.dto.ArticleSummaryDto;
+
+import java.util.List;
+
+public record ArticleSummaryClientResponse(
+        @JsonProperty("_embedded") Embedded embedded,
+        @JsonProperty("page") Page page
+) implements PagedClientResponse<ArticleSummaryDto> {
+
+    public static ArticleSummaryClientResponse empty() {
+        return new ArticleSummaryClientResponse(
+                new Embedded(List.of()),
+                new Page(1, 0, 1, 0)
+        );
+    }
+
+    public static ArticleSummaryClientResponse of(List<ArticleSummaryDto> articles) {
+        return new ArticleSummaryClientResponse(
+                new Embedded(articles),
+                new Page(articles.size(), articles.size(), 1, 0)
+        );
+    }
+
+    public List<ArticleSummaryDto> articles() { return this.embedded().articles(); }
+
+    @Override public List<ArticleSummaryDto> content() { return articles(); }
+    @Override public int totalPages() { return this.page().totalPages(); }
+    @Override public int number() { return this.page().number(); }
+
+    public record Embedded(List<ArticleSummaryDto> articles) {}
+
+    public record Page(
+            int size,
+            long totalElements,
+            int totalPages,
+            int number
+    ) {}
+}
@@ -0,0 +1,66 @@
+package com.springstudy.projectboardadmin.dto.response;
+
+import java.util.List;
+
+/**
+ * 여러 건 삭제 결과. 요청한 순서대로 ID 별 결과를 담는다.
+ *
+ * @param requested 요청한 건수(중복 제외)
+ * @param deleted 삭제한 건수
+ * @param queued 삭제 아웃박스에 기록해 두고 나중에 게시판에 보낼 건수
+ * @param notFound 게시판에 이미 없던 건수
+ * @param failed 삭제하지 못한 건수
+ * @param results ID 별 결과
+ */
+public record BulkDeleteResponse<ID>(
+        int requested,
+        int deleted,
+        int queued,
+        int notFound,
+        int failed,
+        List<Result<ID>> results
+) {
+
+    public static <ID> BulkDeleteResponse<ID> of(List<Result<ID>> results) {
+        return new BulkDeleteResponse<>(
+                results.size(),
+                count(results, Status.DELETED),
+                count(results, Status.QUEUED),
+                count(results, Status.NOT_FOUND),
+                count(results, Status.FAILED),
+                results
+        );
+    }
+
+    private static int count(List<? extends Result<?>> results, Status status) {
+        return (int) results.stream().filter(result -> result.status() == status).count();
+    }
+
+    /**
+     * @param id 삭제를 요청한 ID
+     * @param status 삭제 결과
+     * @param message 실패했을 때의 사유
+     */
+    public record Result<ID>(ID id, Status status, String message) {
+
+        public static <ID> Result<ID> of(ID id, Status status) {
+            return new Result<>(id, status, null);
+        }
+
+        public static <ID> Result<ID> deleted(ID id) {
+            return new Result<>(id, Status.DELETED, null);
+        }
+
+        public static <ID> Result<ID> notFound(ID id) {
+            return new Result<>(id, Status.NOT_FOUND, null);
+        }
+
+        public static <ID> Result<ID> failed(ID id, String message) {
+            return new Result<>(id, Status.FAILED, message);
+        }
+    }
+
+    public enum Status {
+        DELETED, QUEUED, NOT_FOUND, FAILED
+    }
+}
@@ -0,0 +1,39 @@
+package com.springstudy.projectboardadmin.dto.response;
+
+import com.springstudy.projectboardadmin.dto.StalePage;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * @param stale 게시판이 응답하지 못해 마지막으로 받아 둔 목록을 대신 보여주는지 여부
+ */
+public record DataTablesResponse<T>(
+        int draw,
+        long recordsTotal,
+        long recordsFiltered,
+        List<T> data,
+        boolean stale
+) {
+
+    public static <T> DataTablesResponse<T> of(int draw, long recordsTotal, long recordsFiltered, List<T> data) {
+        return new DataTablesResponse<>(draw, recordsTotal, recordsFiltered, data, false);
+    }
+
+    /**
+     * 검색어 없이 받은 목록. 걸러낸 것이 없으므로 전체 건수와 걸러낸 건수가 같다.
+     */
+    public static <T> DataTablesResponse<T> of(int draw, Page<T> page) {
+        return of(draw, page.getTotalElements(), page);
+    }
+
+    /**
+     * 검색어로 걸러낸 목록. DataTables 는 "전체 N건 중 걸러냄" 을 보여주므로 걸러내기 전 전체 건수를 따로 받는다.
+     *
+     * @param recordsTotal 검색어로 걸러내기 전 전체 건수
+     * @param filteredPage 검색어로 걸러낸 목록의 현재 페이지
+     */
+    public static <T> DataTablesResponse<T> of(int draw, long recordsTotal, Page<T> filteredPage) {
+        return new DataTablesResponse<>(draw, recordsTotal, filteredPage.getTotalElements(), filteredPage.getContent(), filteredPage instanceof StalePage);
+    }
+}
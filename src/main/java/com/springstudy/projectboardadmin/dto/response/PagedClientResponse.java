@@ -0,0 +1,20 @@
+package com.springstudy.projectboardadmin.dto.response;
+
+import java.util.List;
+
+/**
+ * 게시판 API 의 HAL 페이지 응답이 공통으로 제공하는 정보
+ *
+ * @param <T> {@code _embedded} 에 담긴 요소 타입
+ */
+public interface PagedClientResponse<T> {
+
+    /** 현재 페이지의 요소 목록 */
+    List<T> content();
+
+    /** 전체 페이지 수 ({@code page.totalPages}) */
+    int totalPages();
+
+    /** 현재 페이지 번호 ({@code page.number}) */
+    int number();
+}
@@ -8,7 +8,7 @@ import java.util.List;
 public record UserAccountClientResponse(
         @JsonProperty("_embedded") Embedded embedded,
         @JsonProperty("page") Page page
-) {
+) implements PagedClientResponse<UserAccountDto> {
 
     public static UserAccountClientResponse empty() {
         return new UserAccountClientResponse(
@@ -26,6 +26,10 @@ public record UserAccountClientResponse(
 
     public List<UserAccountDto> userAccounts() { return this.embedded().userAccounts(); }
 
+    @Override public List<UserAccountDto> content() { return userAccounts(); }
+    @Override public int totalPages() { return this.page().totalPages(); }
+    @Override public int number() { return this.page().number(); }
+
     public record Embedded(List<UserAccountDto> userAccounts) {}
 
     public record Page(
@@ -0,0 +1,17 @@
+package com.springstudy.projectboardadmin.repository;
+
+import com.springstudy.projectboardadmin.domain.BoardArticleComment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BoardArticleCommentRepository extends JpaRepository<BoardArticleComment, Long> {
+
+    Page<BoardArticleComment> findByContentContainingIgnoreCase(String content, Pageable pageable);
+
+    @Query("select c.id from BoardArticleComment c")
+    List<Long> findAllIds();
+}
@@ -0,0 +1,21 @@
+package com.springstudy.projectboardadmin.repository;
+
+import com.springstudy.projectboardadmin.domain.BoardArticle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BoardArticleRepository extends JpaRepository<BoardArticle, Long> {
+
+    /**
+     * 게시판 API 와 같은 결과를 내도록 제목의 어느 위치든 대소문자 없이 찾는다.
+     * {@code lower(title) like '%...%'} 는 인덱스를 쓸 수 없어 테이블을 끝까지 읽으므로, {@code title} 에는 인덱스를 두지 않는다.
+     */
+    Page<BoardArticle> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+
+    @Query("select a.id from BoardArticle a")
+    List<Long> findAllIds();
+}
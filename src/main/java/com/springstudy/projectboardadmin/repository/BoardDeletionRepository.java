@@ -0,0 +1,24 @@
+package com.springstudy.projectboardadmin.repository;
+
+import com.springstudy.projectboardadmin.domain.BoardDeletion;
+import com.springstudy.projectboardadmin.domain.constant.BoardDeletionStatus;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardDeletionRepository extends JpaRepository<BoardDeletion, Long> {
+
+    boolean existsByResourceAndTargetIdAndStatus(BoardResource resource, String targetId, BoardDeletionStatus status);
+
+    List<BoardDeletion> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(BoardDeletionStatus status, LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from BoardDeletion d where d.status = :status and d.completedAt < :completedBefore")
+    int deleteCompletedBefore(@Param("status") BoardDeletionStatus status, @Param("completedBefore") LocalDateTime completedBefore);
+}
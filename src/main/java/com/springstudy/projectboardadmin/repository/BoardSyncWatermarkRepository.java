@@ -0,0 +1,8 @@
+package com.springstudy.projectboardadmin.repository;
+
+import com.springstudy.projectboardadmin.domain.BoardSyncWatermark;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardSyncWatermarkRepository extends JpaRepository<BoardSyncWatermark, BoardResource> {
+}
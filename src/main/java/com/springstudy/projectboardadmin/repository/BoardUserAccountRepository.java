@@ -0,0 +1,13 @@
+package com.springstudy.projectboardadmin.repository;
+
+import com.springstudy.projectboardadmin.domain.BoardUserAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BoardUserAccountRepository extends JpaRepository<BoardUserAccount, String> {
+
+    @Query("select u.userId from BoardUserAccount u")
+    List<String> findAllIds();
+}
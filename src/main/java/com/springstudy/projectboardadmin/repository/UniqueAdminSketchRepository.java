@@ -0,0 +1,24 @@
+package com.springstudy.projectboardadmin.repository;
+
+import com.springstudy.projectboardadmin.domain.UniqueAdminSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface UniqueAdminSketchRepository extends JpaRepository<UniqueAdminSketch, LocalDate> {
+
+    /**
+     * 합치는 동안 다른 노드가 같은 날의 스케치를 덮어쓰지 못하게 행을 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UniqueAdminSketch s where s.visitDate = :visitDate")
+    Optional<UniqueAdminSketch> findForUpdate(@Param("visitDate") LocalDate visitDate);
+
+    List<UniqueAdminSketch> findByVisitDateGreaterThanEqual(LocalDate visitDate);
+}
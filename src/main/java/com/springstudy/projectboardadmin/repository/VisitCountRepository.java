@@ -0,0 +1,22 @@
+package com.springstudy.projectboardadmin.repository;
+
+import com.springstudy.projectboardadmin.domain.VisitCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface VisitCountRepository extends JpaRepository<VisitCount, String> {
+
+    /**
+     * 읽지 않고 DB 에서 바로 더하므로, 여러 노드가 동시에 더해도 서로 덮어쓰지 않는다.
+     *
+     * @return 더한 행 수. 아직 행이 없으면 0
+     */
+    @Modifying
+    @Query("update VisitCount v set v.visits = v.visits + :delta where v.endpoint = :endpoint")
+    int addVisits(@Param("endpoint") String endpoint, @Param("delta") long delta);
+
+    @Query("select coalesce(sum(v.visits), 0) from VisitCount v")
+    long sumVisits();
+}
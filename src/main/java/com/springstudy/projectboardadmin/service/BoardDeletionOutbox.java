@@ -0,0 +1,61 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.BoardDeletion;
+import com.springstudy.projectboardadmin.domain.constant.BoardDeletionStatus;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.repository.BoardDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시판 삭제 요청을 어드민 DB 에 기록해 두는 아웃박스.
+ * 기록한 요청은 {@link BoardDeletionWorker} 가 꺼내 게시판에 보낸다.
+ * 어드민 DB 스키마는 시작할 때 지우지 않으므로({@code ddl-auto: update}), 아직 보내지 못한 요청은 다시 시작한 뒤에 이어서 보낸다.
+ */
+@ConditionalOnProperty(prefix = "project.board.deletion-outbox", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class BoardDeletionOutbox {
+
+    private final BoardDeletionRepository boardDeletionRepository;
+
+
+    /**
+     * 삭제 요청을 기록한다. 같은 데이터에 대한 요청이 아직 처리되지 않고 남아 있으면 새로 기록하지 않는다.
+     */
+    public void enqueue(BoardResource resource, String targetId) {
+        if (boardDeletionRepository.existsByResourceAndTargetIdAndStatus(resource, targetId, BoardDeletionStatus.PENDING)) { return; }
+
+        boardDeletionRepository.save(BoardDeletion.of(resource, targetId, LocalDateTime.now()));
+    }
+
+    /**
+     * @return 지금 보내야 할 삭제 요청. 다시 보낼 시각이 이른 것부터 최대 {@code limit} 개
+     */
+    @Transactional(readOnly = true)
+    public List<BoardDeletion> findDue(int limit) {
+        return boardDeletionRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                BoardDeletionStatus.PENDING,
+                LocalDateTime.now(),
+                PageRequest.of(0, limit)
+        );
+    }
+
+    public void save(BoardDeletion deletion) {
+        boardDeletionRepository.save(deletion);
+    }
+
+    /**
+     * 완료된 지 {@code completedBefore} 가 지난 요청을 지운다. 포기한 요청은 확인할 수 있도록 남겨 둔다.
+     */
+    public int purgeCompleted(LocalDateTime completedBefore) {
+        return boardDeletionRepository.deleteCompletedBefore(BoardDeletionStatus.DONE, completedBefore);
+    }
+}
@@ -0,0 +1,116 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.BoardDeletion;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.support.BackgroundTraffic;
+import com.springstudy.projectboardadmin.service.support.ConcurrencyLimitExceededException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link BoardDeletionOutbox} 에 쌓인 삭제 요청을 주기적으로 꺼내 게시판에 보낸다.
+ * <p>
+ * 게시판 삭제는 여러 번 보내도 결과가 같도록 다룬다. 이미 지워져 404 가 오면 성공으로 본다.
+ * 그 밖의 실패는 지수 백오프로 다시 시도하고, {@code max-attempts} 번 실패하면 포기한다.
+ * 서킷이 열렸거나 동시 요청 한도가 차서 게시판에 보내지도 못했으면, 시도 횟수를 세지 않고 이번 주기를 멈춘다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "project.board.deletion-outbox", name = "enabled", havingValue = "true")
+@Service
+public class BoardDeletionWorker implements SchedulingConfigurer {
+
+    private final RestTemplate restTemplate;
+    private final ProjectProperties projectProperties;
+    private final ProjectProperties.DeletionOutbox outboxProperties;
+    private final BoardDeletionOutbox boardDeletionOutbox;
+
+    public BoardDeletionWorker(RestTemplate restTemplate, ProjectProperties projectProperties, BoardDeletionOutbox boardDeletionOutbox) {
+        this.restTemplate = restTemplate;
+        this.projectProperties = projectProperties;
+        this.outboxProperties = projectProperties.board().deletionOutbox();
+        this.boardDeletionOutbox = boardDeletionOutbox;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(BackgroundTraffic.wrap(this::drain), outboxProperties.pollInterval().toMillis());
+    }
+
+    /**
+     * 지금 보내야 할 삭제 요청이 없을 때까지 {@code batch-size} 개씩 꺼내 보낸다.
+     */
+    public void drain() {
+        try {
+            List<BoardDeletion> due;
+            do {
+                due = boardDeletionOutbox.findDue(outboxProperties.batchSize());
+                for (BoardDeletion deletion : due) {
+                    if (!deliver(deletion)) { return; }
+                }
+            } while (due.size() == outboxProperties.batchSize());
+
+            boardDeletionOutbox.purgeCompleted(LocalDateTime.now().minus(outboxProperties.retention()));
+        } catch (RuntimeException e) {
+            log.warn("게시판 삭제 요청 처리 실패 - 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * @return 게시판이 요청을 받아 주지 않아 이번 주기를 멈춰야 하면 {@code false}
+     */
+    private boolean deliver(BoardDeletion deletion) {
+        try {
+            restTemplate.delete(uriOf(deletion));
+            deletion.complete(LocalDateTime.now());
+        } catch (HttpClientErrorException.NotFound e) {
+            deletion.complete(LocalDateTime.now());
+        } catch (CallNotPermittedException | BulkheadFullException | ConcurrencyLimitExceededException e) {
+            log.debug("게시판이 요청을 받지 않아 삭제 요청 처리를 미룹니다 - {}", e.getMessage());
+            return false;
+        } catch (RuntimeException e) {
+            if (deletion.getAttempts() + 1 >= outboxProperties.maxAttempts()) {
+                log.error("게시판 {} 삭제 요청을 포기합니다 - id: {}", deletion.getResource().getDescription(), deletion.getTargetId(), e);
+                deletion.giveUp(LocalDateTime.now(), e.getMessage());
+            } else {
+                deletion.retryAt(LocalDateTime.now().plus(backoff(deletion.getAttempts())), e.getMessage());
+            }
+        }
+        boardDeletionOutbox.save(deletion);
+
+        return true;
+    }
+
+    /**
+     * @param attempts 지금까지 실패한 횟수
+     */
+    private Duration backoff(int attempts) {
+        Duration maxBackoff = outboxProperties.maxBackoff();
+        Duration backoff = outboxProperties.initialBackoff();
+        for (int i = 0; i < attempts && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+
+        return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+    }
+
+    private URI uriOf(BoardDeletion deletion) {
+        return UriComponentsBuilder.fromHttpUrl(projectProperties.board().url())
+                .path("/api/{resource}/{id}")
+                .buildAndExpand(deletion.getResource().getApiPath(), deletion.getTargetId())
+                .encode()
+                .toUri();
+    }
+}
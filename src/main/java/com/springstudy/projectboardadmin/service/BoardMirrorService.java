@@ -0,0 +1,182 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.BoardMirrorEntity;
+import com.springstudy.projectboardadmin.domain.BoardSyncWatermark;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.ArticleCommentDto;
+import com.springstudy.projectboardadmin.dto.ArticleCommentSummaryDto;
+import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.ArticleSummaryDto;
+import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.repository.BoardArticleCommentRepository;
+import com.springstudy.projectboardadmin.repository.BoardArticleRepository;
+import com.springstudy.projectboardadmin.repository.BoardSyncWatermarkRepository;
+import com.springstudy.projectboardadmin.repository.BoardUserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 어드민 DB 에 복제해 둔 게시판 데이터(게시글, 댓글, 회원)를 읽고 쓴다.
+ * 종류별로 한 번 이상 동기화가 끝나기 전에는 {@link #isReady(BoardResource)} 가 {@code false} 이므로,
+ * 관리 서비스는 그동안 게시판 API 를 그대로 호출한다.
+ */
+@ConditionalOnProperty(prefix = "project.board.mirror", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class BoardMirrorService {
+
+    private final BoardArticleRepository boardArticleRepository;
+    private final BoardArticleCommentRepository boardArticleCommentRepository;
+    private final BoardUserAccountRepository boardUserAccountRepository;
+    private final BoardSyncWatermarkRepository boardSyncWatermarkRepository;
+
+    private final Set<BoardResource> readyResources = ConcurrentHashMap.newKeySet();
+
+
+    public boolean isReady(BoardResource resource) {
+        return readyResources.contains(resource);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ArticleSummaryDto> getArticles(String title, Pageable pageable) {
+        Pageable localPageable = toLocalPageable(pageable);
+
+        return (StringUtils.hasText(title)
+                ? boardArticleRepository.findByTitleContainingIgnoreCase(title, localPageable)
+                : boardArticleRepository.findAll(localPageable)
+        ).map(ArticleSummaryDto::from);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ArticleCommentSummaryDto> getArticleComments(String content, Pageable pageable) {
+        Pageable localPageable = toLocalPageable(pageable);
+
+        return (StringUtils.hasText(content)
+                ? boardArticleCommentRepository.findByContentContainingIgnoreCase(content, localPageable)
+                : boardArticleCommentRepository.findAll(localPageable)
+        ).map(ArticleCommentSummaryDto::from);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UserAccountDto> getUserAccounts(Pageable pageable) {
+        return boardUserAccountRepository.findAll(toLocalPageable(pageable))
+                .map(UserAccountDto::from);
+    }
+
+    public void saveArticles(Collection<ArticleDto> articles) {
+        upsertAll(boardArticleRepository, articles.stream().map(ArticleDto::toEntity).toList());
+    }
+
+    public void saveArticleComments(Collection<ArticleCommentDto> articleComments) {
+        upsertAll(boardArticleCommentRepository, articleComments.stream().map(ArticleCommentDto::toEntity).toList());
+    }
+
+    public void saveUserAccounts(Collection<UserAccountDto> userAccounts) {
+        upsertAll(boardUserAccountRepository, userAccounts.stream().map(UserAccountDto::toEntity).toList());
+    }
+
+    public void deleteArticle(Long articleId) {
+        boardArticleRepository.findById(articleId).ifPresent(boardArticleRepository::delete);
+    }
+
+    public void deleteArticleComment(Long articleCommentId) {
+        boardArticleCommentRepository.findById(articleCommentId).ifPresent(boardArticleCommentRepository::delete);
+    }
+
+    public void deleteUserAccount(String userId) {
+        boardUserAccountRepository.findById(userId).ifPresent(boardUserAccountRepository::delete);
+    }
+
+    /**
+     * 전체 동기화에서 게시판에 없던 게시글을 로컬에서도 지운다.
+     */
+    public void retainArticles(Set<Long> articleIds) {
+        boardArticleRepository.deleteAllByIdInBatch(missingIds(boardArticleRepository.findAllIds(), articleIds));
+    }
+
+    public void retainArticleComments(Set<Long> articleCommentIds) {
+        boardArticleCommentRepository.deleteAllByIdInBatch(missingIds(boardArticleCommentRepository.findAllIds(), articleCommentIds));
+    }
+
+    public void retainUserAccounts(Set<String> userIds) {
+        boardUserAccountRepository.deleteAllByIdInBatch(missingIds(boardUserAccountRepository.findAllIds(), userIds));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<BoardSyncWatermark> getWatermark(BoardResource resource) {
+        return boardSyncWatermarkRepository.findById(resource);
+    }
+
+    /**
+     * 동기화 결과를 워터마크에 기록하고, 해당 종류의 로컬 조회를 허용한다.
+     *
+     * @param newestModifiedAt 이번 동기화에서 받은 데이터 중 가장 최근 수정일시. 받은 데이터가 없으면 {@code null}
+     * @param fullSync 전체 동기화였는지 여부
+     */
+    public void recordSync(BoardResource resource, LocalDateTime newestModifiedAt, boolean fullSync) {
+        LocalDateTime now = LocalDateTime.now();
+        BoardSyncWatermark watermark = boardSyncWatermarkRepository.findById(resource)
+                .orElseGet(() -> BoardSyncWatermark.of(resource));
+
+        if (newestModifiedAt != null && (watermark.getModifiedAt() == null || newestModifiedAt.isAfter(watermark.getModifiedAt()))) {
+            watermark.setModifiedAt(newestModifiedAt);
+        }
+        watermark.setSyncedAt(now);
+        if (fullSync) { watermark.setFullySyncedAt(now); }
+        boardSyncWatermarkRepository.save(watermark);
+
+        readyResources.add(resource);
+    }
+
+    /**
+     * 이미 저장된 행을 한 번의 IN 조회로 영속성 컨텍스트에 올린 뒤 저장한다.
+     * 새 행은 바로 INSERT 하고, 저장된 행은 올려 둔 엔티티에 덮어써 UPDATE 하므로 건마다 SELECT 하지 않는다.
+     * INSERT/UPDATE 는 {@code hibernate.jdbc.batch_size} 단위로 묶어 보낸다.
+     */
+    private static <T extends BoardMirrorEntity<ID>, ID> void upsertAll(JpaRepository<T, ID> repository, List<T> entities) {
+        Set<ID> storedIds = repository.findAllById(entities.stream().map(T::getId).toList()).stream()
+                .map(T::getId)
+                .collect(Collectors.toSet());
+        entities.stream()
+                .filter(entity -> storedIds.contains(entity.getId()))
+                .forEach(BoardMirrorEntity::markStored);
+
+        repository.saveAll(entities);
+    }
+
+    private static <ID> List<ID> missingIds(List<ID> localIds, Set<ID> boardIds) {
+        return localIds.stream()
+                .filter(id -> !boardIds.contains(id))
+                .toList();
+    }
+
+    /**
+     * 관리 화면의 정렬 기준({@code userAccount.nickname} 등)을 로컬 테이블의 컬럼 이름으로 바꾼다.
+     */
+    private static Pageable toLocalPageable(Pageable pageable) {
+        List<Sort.Order> orders = new ArrayList<>();
+        pageable.getSort().forEach(order ->
+                orders.add(order.withProperty(order.getProperty().replaceFirst("^userAccount\\.", "")))
+        );
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
+}
@@ -0,0 +1,193 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.BoardSyncWatermark;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.ArticleCommentDto;
+import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.support.BackgroundTraffic;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 게시판 API 로 게시글, 댓글, 회원을 받아 {@link BoardMirrorService} 의 로컬 테이블에 반영한다.
+ * <p>
+ * 평소에는 워터마크({@link BoardSyncWatermark#getModifiedAt()}) 이후에 수정된 데이터만 최근 수정 순으로 받다가,
+ * 더 오래된 데이터가 나오면 멈춘다. 처음 실행할 때와 {@code project.board.mirror.full-sync-interval} 마다는
+ * 전체 목록을 받아, 게시판에서 삭제된 데이터를 로컬에서도 지운다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "project.board.mirror", name = "enabled", havingValue = "true")
+@Service
+public class BoardMirrorSyncService implements SchedulingConfigurer {
+
+    private final ProjectProperties.Mirror mirrorProperties;
+    private final BoardMirrorService boardMirrorService;
+    private final List<SyncTarget<?, ?>> targets;
+
+    public BoardMirrorSyncService(
+            ProjectProperties projectProperties,
+            BoardMirrorService boardMirrorService,
+            ArticleManagementService articleManagementService,
+            ArticleCommentManagementService articleCommentManagementService,
+            UserAccountManagementService userAccountManagementService
+    ) {
+        this.mirrorProperties = projectProperties.board().mirror();
+        this.boardMirrorService = boardMirrorService;
+        this.targets = List.of(
+                new SyncTarget<ArticleDto, Long>(
+                        BoardResource.ARTICLE,
+                        articleManagementService::forEachArticle,
+                        articleManagementService::streamArticlesModifiedSince,
+                        ArticleDto::id,
+                        ArticleDto::modifiedAt,
+                        boardMirrorService::saveArticles,
+                        boardMirrorService::retainArticles
+                ),
+                new SyncTarget<ArticleCommentDto, Long>(
+                        BoardResource.ARTICLE_COMMENT,
+                        articleCommentManagementService::forEachArticleComment,
+                        articleCommentManagementService::streamArticleCommentsModifiedSince,
+                        ArticleCommentDto::id,
+                        ArticleCommentDto::modifiedAt,
+                        boardMirrorService::saveArticleComments,
+                        boardMirrorService::retainArticleComments
+                ),
+                new SyncTarget<UserAccountDto, String>(
+                        BoardResource.USER_ACCOUNT,
+                        userAccountManagementService::forEachUserAccount,
+                        userAccountManagementService::streamUserAccountsModifiedSince,
+                        UserAccountDto::userId,
+                        UserAccountDto::modifiedAt,
+                        boardMirrorService::saveUserAccounts,
+                        boardMirrorService::retainUserAccounts
+                )
+        );
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(BackgroundTraffic.wrap(this::syncAll), mirrorProperties.syncInterval().toMillis());
+    }
+
+    /**
+     * 모든 종류를 차례로 동기화한다. 한 종류가 실패해도 나머지는 계속 진행하고, 실패한 종류는 다음 주기에 다시 시도한다.
+     */
+    public void syncAll() {
+        for (SyncTarget<?, ?> target : targets) {
+            try {
+                sync(target);
+            } catch (RuntimeException e) {
+                log.warn("게시판 {} 동기화 실패 - 다음 주기에 다시 시도합니다.", target.resource().getDescription(), e);
+            }
+        }
+    }
+
+    /**
+     * 전체 동기화는 응답 본문을 읽는 대로 하나씩 넘겨받아 {@code batch-size} 만큼씩 저장하므로,
+     * 게시판 데이터가 많아져도 메모리에는 한 묶음과 받은 id 만 남는다.
+     */
+    private <T, ID> void sync(SyncTarget<T, ID> target) {
+        BoardSyncWatermark watermark = boardMirrorService.getWatermark(target.resource()).orElse(null);
+        boolean fullSync = isFullSyncDue(watermark);
+        SyncBatch<T, ID> batch = new SyncBatch<>(target, mirrorProperties.batchSize(), fullSync);
+
+        if (fullSync) {
+            target.forEachAll().accept(batch::add);
+        } else {
+            try (Stream<T> stream = target.modifiedSince().apply(watermark.getModifiedAt().minus(mirrorProperties.overlap()))) {
+                stream.forEach(batch::add);
+            }
+        }
+        batch.finish();
+
+        boardMirrorService.recordSync(target.resource(), batch.newestModifiedAt(), fullSync);
+    }
+
+    private boolean isFullSyncDue(BoardSyncWatermark watermark) {
+        return watermark == null
+                || watermark.getModifiedAt() == null
+                || watermark.getFullySyncedAt() == null
+                || watermark.getFullySyncedAt().plus(mirrorProperties.fullSyncInterval()).isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 동기화 대상 하나를 다루는 방법
+     *
+     * @param forEachAll 전체 목록을 id 순으로 하나씩 넘겨준다.
+     * @param modifiedSince 주어진 시각 이후에 수정된 데이터를 최근 수정 순으로 내보내는 스트림
+     * @param save 로컬 테이블에 저장(있으면 갱신)
+     * @param retain 전체 동기화에서 받은 id 만 남기고 로컬에서 지운다.
+     */
+    private record SyncTarget<T, ID>(
+            BoardResource resource,
+            Consumer<Consumer<T>> forEachAll,
+            Function<LocalDateTime, Stream<T>> modifiedSince,
+            Function<T, ID> id,
+            Function<T, LocalDateTime> modifiedAt,
+            Consumer<Collection<T>> save,
+            Consumer<Set<ID>> retain
+    ) {}
+
+    /**
+     * 받은 데이터를 묶어 저장하면서, 가장 최근 수정 일시와 (전체 동기화라면) 받은 id 를 모은다.
+     */
+    private static class SyncBatch<T, ID> {
+
+        private final SyncTarget<T, ID> target;
+        private final int batchSize;
+        private final List<T> items;
+        private final Set<ID> seenIds;
+        private LocalDateTime newestModifiedAt;
+
+        private SyncBatch(SyncTarget<T, ID> target, int batchSize, boolean fullSync) {
+            this.target = target;
+            this.batchSize = batchSize;
+            this.items = new ArrayList<>(batchSize);
+            this.seenIds = fullSync ? new HashSet<>() : null;
+        }
+
+        void add(T item) {
+            items.add(item);
+            if (seenIds != null) { seenIds.add(target.id().apply(item)); }
+
+            LocalDateTime modifiedAt = target.modifiedAt().apply(item);
+            if (modifiedAt != null && (newestModifiedAt == null || modifiedAt.isAfter(newestModifiedAt))) {
+                newestModifiedAt = modifiedAt;
+            }
+
+            if (items.size() >= batchSize) { flush(); }
+        }
+
+        /**
+         * 남은 묶음을 저장하고, 전체 동기화라면 받지 못한 id 를 로컬에서 지운다.
+         */
+        void finish() {
+            if (!items.isEmpty()) { flush(); }
+            if (seenIds != null) { target.retain().accept(seenIds); }
+        }
+
+        LocalDateTime newestModifiedAt() {
+            return newestModifiedAt;
+        }
+
+        private void flush() {
+            target.save().accept(List.copyOf(items));
+            items.clear();
+        }
+    }
+}
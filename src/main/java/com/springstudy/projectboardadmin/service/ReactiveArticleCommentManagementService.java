@@ -0,0 +1,117 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.config.CacheConfig;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.ArticleCommentDto;
+import com.springstudy.projectboardadmin.dto.ArticleCommentSummaryDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.ArticleCommentClientResponse;
+import com.springstudy.projectboardadmin.dto.response.ArticleCommentSummaryClientResponse;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import com.springstudy.projectboardadmin.service.support.BoardPageFlux;
+import com.springstudy.projectboardadmin.service.support.BoardUris;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link ArticleCommentManagementService} 의 논블로킹 버전. {@code project.board.reactive.enabled} 일 때만 등록된다.
+ * 단건 조회 결과는 블로킹 버전과 같은 캐시({@value CacheConfig#ARTICLE_COMMENT_CACHE})를 함께 쓴다.
+ * 목록은 블로킹 버전과 같은 로컬 복제본과 목록 스냅샷을 거치고, 게시판 요청은 {@code boardWebClient} 의 필터가 블로킹 클라이언트와 같은 지표, 한도, 서킷 브레이커로 감싼다.
+ */
+@ConditionalOnProperty(prefix = "project.board.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Service
+public class ReactiveArticleCommentManagementService {
+
+    private final WebClient boardWebClient;
+    private final ProjectProperties projectProperties;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<BoardMirrorService> boardMirrorService;
+    private final BoardListSnapshots boardListSnapshots;
+    private final ArticleCommentManagementService articleCommentManagementService;
+
+
+    public Flux<ArticleCommentDto> getArticleComments() {
+        int pageSize = projectProperties.board().pageSize();
+
+        return BoardPageFlux.fetchAll(
+                page -> request(articleCommentsUri(null, fullScanPage(page, pageSize)), ArticleCommentClientResponse.class)
+                        .defaultIfEmpty(ArticleCommentClientResponse.empty()),
+                projectProperties.board().fetch().parallelism()
+        );
+    }
+
+    /**
+     * 블로킹 버전과 같은 순서로 목록을 찾는다. 로컬 복제본이 준비되었으면 복제본을 {@link Schedulers#boundedElastic()} 에서 조회하고,
+     * 아니면 목록 스냅샷을 거쳐 게시판에 요청한다.
+     */
+    public Mono<Page<ArticleCommentSummaryDto>> getArticleComments(String content, Pageable pageable) {
+        BoardMirrorService mirror = boardMirrorService.getIfAvailable();
+        if (mirror != null && mirror.isReady(BoardResource.ARTICLE_COMMENT)) {
+            return Mono.fromCallable(() -> mirror.getArticleComments(content, pageable)).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        URI uri = BoardUris.withProjection(articleCommentsUri(content, pageable), projectProperties.board().listProjection().articleComment());
+
+        return boardListSnapshots.fetchAsync(uri, () -> request(uri, ArticleCommentSummaryClientResponse.class)
+                .defaultIfEmpty(ArticleCommentSummaryClientResponse.empty())
+                .<Page<ArticleCommentSummaryDto>>map(response -> new PageImpl<>(response.articleComments(), pageable, response.page().totalElements())));
+    }
+
+    public Mono<ArticleCommentDto> getArticleComment(Long articleCommentId) {
+        Cache cache = cacheManager.getCache(CacheConfig.ARTICLE_COMMENT_CACHE);
+
+        return Mono.defer(() -> {
+            ArticleCommentDto cached = cache == null ? null : cache.get(articleCommentId, ArticleCommentDto.class);
+            if (cached != null) { return Mono.just(cached); }
+
+            URI uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + "/api/articleComments/" + articleCommentId)
+                    .queryParam("projection", "withUserAccount")
+                    .build()
+                    .toUri();
+
+            return request(uri, ArticleCommentDto.class)
+                    .switchIfEmpty(Mono.error(() -> new NoSuchElementException("댓글이 없습니다 - articleCommentId: " + articleCommentId)))
+                    .doOnNext(articleComment -> { if (cache != null) { cache.put(articleCommentId, articleComment); } });
+        });
+    }
+
+    /**
+     * 삭제는 블로킹 버전과 같은 길(삭제 대기열, 로컬 복제본, 목록 스냅샷, 단건 조회 캐시)을 거쳐야 하므로,
+     * 블로킹 버전을 {@link Schedulers#boundedElastic()} 에서 호출한다.
+     */
+    public Mono<Void> deleteArticleComment(Long articleCommentId) {
+        return Mono.<Void>fromRunnable(() -> articleCommentManagementService.deleteArticleComment(articleCommentId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private <T> Mono<T> request(URI uri, Class<T> responseType) {
+        return boardWebClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(responseType);
+    }
+
+    private URI articleCommentsUri(String content, Pageable pageable) {
+        return BoardUris.list(projectProperties.board().url() + "/api/articleComments", pageable, "content", content);
+    }
+
+    private static Pageable fullScanPage(int page, int pageSize) {
+        return BoardUris.fullScanPage(page, pageSize, "id");
+    }
+}
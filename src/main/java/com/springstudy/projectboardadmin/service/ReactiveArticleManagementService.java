@@ -0,0 +1,117 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.config.CacheConfig;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.ArticleSummaryDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.ArticleClientResponse;
+import com.springstudy.projectboardadmin.dto.response.ArticleSummaryClientResponse;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import com.springstudy.projectboardadmin.service.support.BoardPageFlux;
+import com.springstudy.projectboardadmin.service.support.BoardUris;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link ArticleManagementService} 의 논블로킹 버전. {@code project.board.reactive.enabled} 일 때만 등록된다.
+ * 단건 조회 결과는 블로킹 버전과 같은 캐시({@value CacheConfig#ARTICLE_CACHE})를 함께 쓴다.
+ * 목록은 블로킹 버전과 같은 로컬 복제본과 목록 스냅샷을 거치고, 게시판 요청은 {@code boardWebClient} 의 필터가 블로킹 클라이언트와 같은 지표, 한도, 서킷 브레이커로 감싼다.
+ */
+@ConditionalOnProperty(prefix = "project.board.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Service
+public class ReactiveArticleManagementService {
+
+    private final WebClient boardWebClient;
+    private final ProjectProperties projectProperties;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<BoardMirrorService> boardMirrorService;
+    private final BoardListSnapshots boardListSnapshots;
+    private final ArticleManagementService articleManagementService;
+
+
+    public Flux<ArticleDto> getArticles() {
+        int pageSize = projectProperties.board().pageSize();
+
+        return BoardPageFlux.fetchAll(
+                page -> request(articlesUri(null, fullScanPage(page, pageSize)), ArticleClientResponse.class)
+                        .defaultIfEmpty(ArticleClientResponse.empty()),
+                projectProperties.board().fetch().parallelism()
+        );
+    }
+
+    /**
+     * 블로킹 버전과 같은 순서로 목록을 찾는다. 로컬 복제본이 준비되었으면 복제본을 {@link Schedulers#boundedElastic()} 에서 조회하고,
+     * 아니면 목록 스냅샷을 거쳐 게시판에 요청한다.
+     */
+    public Mono<Page<ArticleSummaryDto>> getArticles(String title, Pageable pageable) {
+        BoardMirrorService mirror = boardMirrorService.getIfAvailable();
+        if (mirror != null && mirror.isReady(BoardResource.ARTICLE)) {
+            return Mono.fromCallable(() -> mirror.getArticles(title, pageable)).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        URI uri = BoardUris.withProjection(articlesUri(title, pageable), projectProperties.board().listProjection().article());
+
+        return boardListSnapshots.fetchAsync(uri, () -> request(uri, ArticleSummaryClientResponse.class)
+                .defaultIfEmpty(ArticleSummaryClientResponse.empty())
+                .<Page<ArticleSummaryDto>>map(response -> new PageImpl<>(response.articles(), pageable, response.page().totalElements())));
+    }
+
+    public Mono<ArticleDto> getArticle(Long articleId) {
+        Cache cache = cacheManager.getCache(CacheConfig.ARTICLE_CACHE);
+
+        return Mono.defer(() -> {
+            ArticleDto cached = cache == null ? null : cache.get(articleId, ArticleDto.class);
+            if (cached != null) { return Mono.just(cached); }
+
+            URI uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + "/api/articles/" + articleId)
+                    .queryParam("projection", "withUserAccount")
+                    .build()
+                    .toUri();
+
+            return request(uri, ArticleDto.class)
+                    .switchIfEmpty(Mono.error(() -> new NoSuchElementException("게시글이 없습니다 - articleId: " + articleId)))
+                    .doOnNext(article -> { if (cache != null) { cache.put(articleId, article); } });
+        });
+    }
+
+    /**
+     * 삭제는 블로킹 버전과 같은 길(삭제 대기열, 로컬 복제본, 목록 스냅샷, 단건 조회 캐시)을 거쳐야 하므로,
+     * 블로킹 버전을 {@link Schedulers#boundedElastic()} 에서 호출한다.
+     */
+    public Mono<Void> deleteArticle(Long articleId) {
+        return Mono.<Void>fromRunnable(() -> articleManagementService.deleteArticle(articleId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private <T> Mono<T> request(URI uri, Class<T> responseType) {
+        return boardWebClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(responseType);
+    }
+
+    private URI articlesUri(String title, Pageable pageable) {
+        return BoardUris.list(projectProperties.board().url() + "/api/articles", pageable, "title", title);
+    }
+
+    private static Pageable fullScanPage(int page, int pageSize) {
+        return BoardUris.fullScanPage(page, pageSize, "id");
+    }
+}
@@ -0,0 +1,114 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.config.CacheConfig;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.UserAccountClientResponse;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import com.springstudy.projectboardadmin.service.support.BoardPageFlux;
+import com.springstudy.projectboardadmin.service.support.BoardUris;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link UserAccountManagementService} 의 논블로킹 버전. {@code project.board.reactive.enabled} 일 때만 등록된다.
+ * 단건 조회 결과는 블로킹 버전과 같은 캐시({@value CacheConfig#USER_ACCOUNT_CACHE})를 함께 쓴다.
+ * 목록은 블로킹 버전과 같은 로컬 복제본과 목록 스냅샷을 거치고, 게시판 요청은 {@code boardWebClient} 의 필터가 블로킹 클라이언트와 같은 지표, 한도, 서킷 브레이커로 감싼다.
+ */
+@ConditionalOnProperty(prefix = "project.board.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Service
+public class ReactiveUserAccountManagementService {
+
+    private final WebClient boardWebClient;
+    private final ProjectProperties projectProperties;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<BoardMirrorService> boardMirrorService;
+    private final BoardListSnapshots boardListSnapshots;
+    private final UserAccountManagementService userAccountManagementService;
+
+
+    public Flux<UserAccountDto> getUserAccounts() {
+        int pageSize = projectProperties.board().pageSize();
+
+        return BoardPageFlux.fetchAll(
+                page -> request(userAccountsUri(fullScanPage(page, pageSize)), UserAccountClientResponse.class)
+                        .defaultIfEmpty(UserAccountClientResponse.empty()),
+                projectProperties.board().fetch().parallelism()
+        );
+    }
+
+    /**
+     * 블로킹 버전과 같은 순서로 목록을 찾는다. 로컬 복제본이 준비되었으면 복제본을 {@link Schedulers#boundedElastic()} 에서 조회하고,
+     * 아니면 목록 스냅샷을 거쳐 게시판에 요청한다.
+     */
+    public Mono<Page<UserAccountDto>> getUserAccounts(Pageable pageable) {
+        BoardMirrorService mirror = boardMirrorService.getIfAvailable();
+        if (mirror != null && mirror.isReady(BoardResource.USER_ACCOUNT)) {
+            return Mono.fromCallable(() -> mirror.getUserAccounts(pageable)).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        URI uri = userAccountsUri(pageable);
+
+        return boardListSnapshots.fetchAsync(uri, () -> request(uri, UserAccountClientResponse.class)
+                .defaultIfEmpty(UserAccountClientResponse.empty())
+                .<Page<UserAccountDto>>map(response -> new PageImpl<>(response.userAccounts(), pageable, response.page().totalElements())));
+    }
+
+    public Mono<UserAccountDto> getUserAccount(String userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.USER_ACCOUNT_CACHE);
+
+        return Mono.defer(() -> {
+            UserAccountDto cached = cache == null ? null : cache.get(userId, UserAccountDto.class);
+            if (cached != null) { return Mono.just(cached); }
+
+            URI uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + "/api/userAccounts/" + userId)
+                    .build()
+                    .toUri();
+
+            return request(uri, UserAccountDto.class)
+                    .switchIfEmpty(Mono.error(() -> new NoSuchElementException("회원이 없습니다 - userId: " + userId)))
+                    .doOnNext(userAccount -> { if (cache != null) { cache.put(userId, userAccount); } });
+        });
+    }
+
+    /**
+     * 삭제는 블로킹 버전과 같은 길(삭제 대기열, 로컬 복제본, 목록 스냅샷, 단건 조회 캐시)을 거쳐야 하므로,
+     * 블로킹 버전을 {@link Schedulers#boundedElastic()} 에서 호출한다.
+     */
+    public Mono<Void> deleteUserAccount(String userId) {
+        return Mono.<Void>fromRunnable(() -> userAccountManagementService.deleteUserAccount(userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private <T> Mono<T> request(URI uri, Class<T> responseType) {
+        return boardWebClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(responseType);
+    }
+
+    private URI userAccountsUri(Pageable pageable) {
+        return BoardUris.list(projectProperties.board().url() + "/api/userAccounts", pageable);
+    }
+
+    private static Pageable fullScanPage(int page, int pageSize) {
+        return BoardUris.fullScanPage(page, pageSize, "userId");
+    }
+}
@@ -0,0 +1,131 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.support.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 관리 화면을 본 서로 다른 어드민 계정 수.
+ * <p>
+ * 계정 목록을 들고 있지 않고 날짜별 {@link HyperLogLog} 스케치에 더하므로, 방문자가 늘어도 하루에 4KB 만 쓴다.
+ * 스케치는 최근 {@code project.visit.unique-admin-days} 일치만 두고, {@code flush-interval} 마다 {@link UniqueAdminSketchStore} 에 합친 뒤
+ * 모든 노드가 합친 스케치를 다시 읽어 둔다. 계정 수를 셀 때는 읽어 둔 스케치와 이 노드의 스케치를 합쳐 추정한다.
+ * 화면마다 보여주는 오늘, 최근 일주일 방문자 수는 합칠 때 한 번만 추정해 두므로, 화면을 그릴 때 스케치를 합치지 않는다.
+ * 어드민 DB 스키마는 시작할 때 지우지 않으므로({@code ddl-auto: update}), 시작할 때 저장된 스케치를 읽어 재배포 직후에도 방문자 수가 이어진다.
+ * <p>
+ * 이 노드의 스케치는 날짜가 지나 버릴 때까지 매번 통째로 다시 합친다. 합치기는 여러 번 해도 결과가 같으므로, 실패하면 다음에 다시 합치면 된다.
+ */
+@Slf4j
+@Service
+public class UniqueAdminService implements SchedulingConfigurer, DisposableBean {
+
+    private final ProjectProperties.Visit visitProperties;
+    private final UniqueAdminSketchStore uniqueAdminSketchStore;
+
+    private final ConcurrentMap<LocalDate, HyperLogLog> local = new ConcurrentHashMap<>();
+    /** 마지막으로 읽은 모든 노드의 날짜별 스케치 */
+    private volatile Map<LocalDate, HyperLogLog> stored = Map.of();
+    /** 마지막으로 합칠 때 추정한 오늘, 최근 일주일 방문자 수 */
+    private volatile Estimates estimates = new Estimates(0, 0);
+
+    public UniqueAdminService(ProjectProperties projectProperties, UniqueAdminSketchStore uniqueAdminSketchStore) {
+        this.visitProperties = projectProperties.visit();
+        this.uniqueAdminSketchStore = uniqueAdminSketchStore;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::flush, visitProperties.flushInterval().toMillis());
+    }
+
+    /**
+     * 모든 노드가 합친 스케치를 읽고 방문자 수를 추정해 둔다. 읽지 못하면 첫 주기에 다시 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadStored() {
+        try {
+            stored = uniqueAdminSketchStore.findSince(LocalDate.now().minusDays(visitProperties.uniqueAdminDays() - 1L));
+        } catch (RuntimeException e) {
+            log.warn("어드민 방문자 스케치 조회 실패 - 다음 주기에 다시 읽습니다. {}", e.getMessage());
+        }
+        estimates = new Estimates(uniqueAdmins(1), uniqueAdmins(7));
+    }
+
+    /**
+     * @param endpoint 요청을 처리한 핸들러의 URI 패턴. 방문 수를 세는 화면이 아니면 무시한다.
+     * @param username 화면을 본 어드민 계정
+     */
+    public void visit(String endpoint, String username) {
+        if (!VisitCounterService.VIEW_ENDPOINTS.contains(endpoint)) { return; }
+
+        local.computeIfAbsent(LocalDate.now(), day -> new HyperLogLog()).add(username);
+    }
+
+    /**
+     * @return 마지막으로 합칠 때 추정한 오늘 방문한 어드민 수. 최대 {@code flush-interval} 만큼 늦다.
+     */
+    public long uniqueAdminsToday() {
+        return estimates.today();
+    }
+
+    /**
+     * @return 마지막으로 합칠 때 추정한 최근 일주일 동안 방문한 어드민 수. 최대 {@code flush-interval} 만큼 늦다.
+     */
+    public long uniqueAdminsThisWeek() {
+        return estimates.thisWeek();
+    }
+
+    /**
+     * @param days 오늘을 포함해 거슬러 올라갈 날 수. {@code unique-admin-days} 보다 길게 볼 수는 없다.
+     * @return 그 기간에 관리 화면을 본 서로 다른 어드민 계정 수(추정)
+     */
+    public long uniqueAdmins(int days) {
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, HyperLogLog> stored = this.stored;
+        HyperLogLog merged = new HyperLogLog();
+        for (int i = 0; i < Math.min(days, visitProperties.uniqueAdminDays()); i++) {
+            LocalDate day = today.minusDays(i);
+            HyperLogLog sketch = local.get(day);
+            if (sketch != null) { merged.merge(sketch); }
+            sketch = stored.get(day);
+            if (sketch != null) { merged.merge(sketch); }
+        }
+
+        return merged.estimate();
+    }
+
+    /**
+     * 지난 스케치를 버리고, 이 노드의 스케치를 DB 에 합친 뒤 모든 노드의 스케치를 다시 읽는다.
+     * DB 에 합치지 못해도 이 노드의 방문자는 반영되도록 화면에 보여줄 방문자 수는 항상 다시 추정한다.
+     */
+    public synchronized void flush() {
+        LocalDate oldest = LocalDate.now().minusDays(visitProperties.uniqueAdminDays() - 1L);
+        local.keySet().removeIf(day -> day.isBefore(oldest));
+
+        try {
+            if (!local.isEmpty()) { uniqueAdminSketchStore.mergeAll(Map.copyOf(local)); }
+            stored = uniqueAdminSketchStore.findSince(oldest);
+        } catch (RuntimeException e) {
+            log.warn("어드민 방문자 스케치 반영 실패 - 다음 주기에 다시 시도합니다. {}", e.getMessage());
+        }
+        estimates = new Estimates(uniqueAdmins(1), uniqueAdmins(7));
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private record Estimates(long today, long thisWeek) {}
+}
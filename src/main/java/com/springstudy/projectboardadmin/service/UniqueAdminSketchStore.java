@@ -0,0 +1,44 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.UniqueAdminSketch;
+import com.springstudy.projectboardadmin.repository.UniqueAdminSketchRepository;
+import com.springstudy.projectboardadmin.service.support.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 어드민 노드가 함께 쓰는 날짜별 어드민 방문자 스케치 저장소
+ */
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class UniqueAdminSketchStore {
+
+    private final UniqueAdminSketchRepository uniqueAdminSketchRepository;
+
+    /**
+     * 날짜별 스케치를 저장된 스케치에 합친다. 처음 보는 날이면 행을 새로 만든다.
+     * 다른 노드가 같은 날의 행을 동시에 처음 만들면 트랜잭션 전체가 실패하지만, 합치기는 다시 해도 결과가 같으므로 다음에 다시 합치면 된다.
+     */
+    public void mergeAll(Map<LocalDate, HyperLogLog> sketches) {
+        sketches.forEach((day, sketch) -> uniqueAdminSketchRepository.findForUpdate(day)
+                .ifPresentOrElse(
+                        stored -> stored.setRegisters(HyperLogLog.fromBytes(stored.getRegisters()).merge(sketch).toBytes()),
+                        () -> uniqueAdminSketchRepository.save(UniqueAdminSketch.of(day, sketch.toBytes()))
+                ));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<LocalDate, HyperLogLog> findSince(LocalDate day) {
+        return uniqueAdminSketchRepository.findByVisitDateGreaterThanEqual(day).stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        UniqueAdminSketch::getVisitDate,
+                        stored -> HyperLogLog.fromBytes(stored.getRegisters())
+                ));
+    }
+}
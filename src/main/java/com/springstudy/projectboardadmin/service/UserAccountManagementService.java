@@ -1,17 +1,42 @@
 package com.springstudy.projectboardadmin.service;
 
+import com.springstudy.projectboardadmin.config.CacheConfig;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.BulkDeleteResponse;
 import com.springstudy.projectboardadmin.dto.response.UserAccountClientResponse;
+import com.springstudy.projectboardadmin.service.support.BatchDetailLoader;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import com.springstudy.projectboardadmin.service.support.BoardPageSpliterator;
+import com.springstudy.projectboardadmin.service.support.BoardUris;
+import com.springstudy.projectboardadmin.service.support.BulkDeleter;
+import com.springstudy.projectboardadmin.service.support.ConditionalGetClient;
+import com.springstudy.projectboardadmin.service.support.DetailPrefetcher;
+import com.springstudy.projectboardadmin.service.support.HalStreamingReader;
+import com.springstudy.projectboardadmin.service.support.ParallelPageFetcher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
@@ -19,31 +44,152 @@ public class UserAccountManagementService {
 
     private final RestTemplate restTemplate;
     private final ProjectProperties projectProperties;
+    private final ParallelPageFetcher parallelPageFetcher;
+    private final ConditionalGetClient conditionalGetClient;
+    private final HalStreamingReader halStreamingReader;
+    private final ObjectProvider<BoardMirrorService> boardMirrorService;
+    private final BoardListSnapshots boardListSnapshots;
+    private final BatchDetailLoader batchDetailLoader;
+    private final DetailPrefetcher detailPrefetcher;
+    private final BulkDeleter bulkDeleter;
+    private final ObjectProvider<BoardDeletionOutbox> boardDeletionOutbox;
 
-    public List<UserAccountDto> getUserAccounts() {
-        URI uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + "/api/userAccounts")
-                .queryParam("size", 10000)
-                .build()
-                .toUri();
-        UserAccountClientResponse response = restTemplate.getForObject(uri, UserAccountClientResponse.class);
+    /**
+     * 목록 화면용. 목록 응답에 회원 정보가 다 들어 있으므로, 받은 페이지 항목을 그대로 단건 조회 캐시에 넣어 둔다.
+     */
+    public Page<UserAccountDto> getUserAccounts(Pageable pageable) {
+        Page<UserAccountDto> page = requestUserAccountPage(pageable);
+        detailPrefetcher.putAll(CacheConfig.USER_ACCOUNT_CACHE, page.getContent(), UserAccountDto::userId);
+
+        return page;
+    }
+
+    private Page<UserAccountDto> requestUserAccountPage(Pageable pageable) {
+        BoardMirrorService mirror = boardMirrorService.getIfAvailable();
+        if (mirror != null && mirror.isReady(BoardResource.USER_ACCOUNT)) { return mirror.getUserAccounts(pageable); }
+
+        URI uri = userAccountsUri(pageable);
+
+        return boardListSnapshots.fetch(uri, () -> {
+            UserAccountClientResponse response = Optional.ofNullable(conditionalGetClient.getForObject(uri, UserAccountClientResponse.class))
+                    .orElseGet(UserAccountClientResponse::empty);
+
+            return new PageImpl<>(response.userAccounts(), pageable, response.page().totalElements());
+        });
+    }
+
+    /**
+     * 전체 회원 목록을 설정된 페이지 크기({@code project.board.page-size})만큼씩 나누어 요청하는 스트림을 반환한다.
+     * 다음 페이지는 스트림이 소비될 때 요청된다. {@code project.board.fetch.parallel} 이 켜져 있으면 다음 페이지를
+     * {@code parallelism} 개까지 앞질러 요청하므로, 끝까지 소비하지 않을 때는 스트림을 닫아야 한다.
+     */
+    public Stream<UserAccountDto> streamUserAccounts() {
+        return streamUserAccounts(projectProperties.board().pageSize());
+    }
+
+    public Stream<UserAccountDto> streamUserAccounts(int pageSize) {
+        IntFunction<UserAccountClientResponse> pages = page -> requestUserAccounts(fullScanPage(page, pageSize));
+        if (projectProperties.board().fetch().parallel()) { return parallelPageFetcher.stream(pages); }
+
+        return BoardPageSpliterator.stream(pages);
+    }
+
+    /**
+     * {@code since} 이후(같은 시각 포함)에 수정된 회원을 최근 수정 순으로 요청하는 스트림을 반환한다.
+     * 그보다 오래된 회원이 나오면 다음 페이지는 요청하지 않는다.
+     */
+    public Stream<UserAccountDto> streamUserAccountsModifiedSince(LocalDateTime since) {
+        int pageSize = projectProperties.board().pageSize();
+
+        return BoardPageSpliterator.stream(page -> requestUserAccounts(PageRequest.of(page, pageSize, Sort.by(Sort.Direction.DESC, "modifiedAt"))))
+                .takeWhile(userAccount -> userAccount.modifiedAt() == null || !userAccount.modifiedAt().isBefore(since));
+    }
+
+    /**
+     * 전체 회원 목록을 페이지 단위로 요청하되, 응답 본문을 읽는 즉시 회원을 하나씩 넘겨준다.
+     * 페이지 전체를 객체로 만들지 않으므로 회원 수와 관계없이 메모리 사용량이 일정하다.
+     * {@code project.board.fetch.parallel} 이 켜져 있으면 다음 페이지를 {@code parallelism} 개까지 미리 동시에 요청해 두고 페이지 순서대로 넘겨주는 대신,
+     * 앞질러 받은 페이지는 객체로 만들어 들고 있는다.
+     */
+    public void forEachUserAccount(Consumer<? super UserAccountDto> action) {
+        int pageSize = projectProperties.board().pageSize();
+        if (projectProperties.board().fetch().parallel()) {
+            parallelPageFetcher.forEach(page -> requestUserAccounts(fullScanPage(page, pageSize)), action);
+            return;
+        }
 
-        return Optional.ofNullable(response).orElseGet(UserAccountClientResponse::empty).userAccounts();
+        halStreamingReader.readAllPages(page -> userAccountsUri(fullScanPage(page, pageSize)), "userAccounts", UserAccountDto.class, action);
     }
 
+    @Cacheable(CacheConfig.USER_ACCOUNT_CACHE)
     public UserAccountDto getUserAccount(String userId) {
+        return requestUserAccount(userId);
+    }
+
+    /**
+     * 여러 회원을 한 번에 조회한다. 단건 조회 캐시에 있는 것은 캐시에서 꺼내고, 나머지만 게시판에 동시에 요청한다.
+     * 게시판에 없는 회원은 결과에서 빠진다.
+     */
+    public List<UserAccountDto> getUserAccountsByIds(Collection<String> userIds) {
+        return batchDetailLoader.load(CacheConfig.USER_ACCOUNT_CACHE, userIds, UserAccountDto.class, this::requestUserAccount);
+    }
+
+    private UserAccountDto requestUserAccount(String userId) {
         URI uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + "/api/userAccounts/" + userId)
                 .build()
                 .toUri();
-        UserAccountDto response = restTemplate.getForObject(uri, UserAccountDto.class);
+        UserAccountDto response = conditionalGetClient.getForObject(uri, UserAccountDto.class);
 
         return Optional.ofNullable(response)
                 .orElseThrow(() -> new NoSuchElementException("게시글이 없습니다 - userId: " + userId));
     }
 
+    @CacheEvict(CacheConfig.USER_ACCOUNT_CACHE)
     public void deleteUserAccount(String userId) {
-        URI uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + "/api/userAccounts/" + userId)
-                .build()
-                .toUri();
-        restTemplate.delete(uri);
+        requestDeletion(userId);
+    }
+
+    /**
+     * 여러 회원을 동시에 삭제한다. 캐시는 모든 삭제가 끝난 뒤 한꺼번에 비운다.
+     */
+    @CacheEvict(value = CacheConfig.USER_ACCOUNT_CACHE, allEntries = true)
+    public BulkDeleteResponse<String> deleteUserAccounts(Collection<String> userIds) {
+        return bulkDeleter.deleteAll(userIds, this::requestDeletion);
+    }
+
+    /**
+     * 삭제 아웃박스가 켜져 있으면 삭제 요청을 기록만 해 두고, 아니면 게시판에 바로 삭제를 요청한다.
+     * 로컬 복제본에서는 바로 지우고, 기억해 둔 목록은 잊어 다음 목록 조회가 게시판에서 새로 받게 한다.
+     */
+    private BulkDeleteResponse.Status requestDeletion(String userId) {
+        BoardDeletionOutbox outbox = boardDeletionOutbox.getIfAvailable();
+        if (outbox != null) {
+            outbox.enqueue(BoardResource.USER_ACCOUNT, userId);
+        } else {
+            URI uri = UriComponentsBuilder.fromHttpUrl(projectProperties.board().url() + "/api/userAccounts/" + userId)
+                    .build()
+                    .toUri();
+            restTemplate.delete(uri);
+        }
+        boardMirrorService.ifAvailable(mirror -> mirror.deleteUserAccount(userId));
+        boardListSnapshots.evict(projectProperties.board().url() + "/api/userAccounts");
+
+        return outbox != null ? BulkDeleteResponse.Status.QUEUED : BulkDeleteResponse.Status.DELETED;
+    }
+
+    /**
+     * 전체 조회용 페이지. 한 번 지나가고 마는 큰 페이지라 조건부 요청용으로 기억해 두지 않고 바로 요청한다.
+     */
+    private UserAccountClientResponse requestUserAccounts(Pageable pageable) {
+        return Optional.ofNullable(restTemplate.getForObject(userAccountsUri(pageable), UserAccountClientResponse.class))
+                .orElseGet(UserAccountClientResponse::empty);
+    }
+
+    private URI userAccountsUri(Pageable pageable) {
+        return BoardUris.list(projectProperties.board().url() + "/api/userAccounts", pageable);
+    }
+
+    private static Pageable fullScanPage(int page, int pageSize) {
+        return BoardUris.fullScanPage(page, pageSize, "userId");
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.VisitCount;
+import com.springstudy.projectboardadmin.repository.VisitCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 모든 어드민 노드가 함께 쓰는 관리 화면 방문 수 저장소.
+ * 어드민 DB 스키마는 시작할 때 지우지 않으므로({@code ddl-auto: update}), 누적 방문 수는 재배포해도 이어진다.
+ */
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class VisitCountStore {
+
+    private final VisitCountRepository visitCountRepository;
+
+
+    /**
+     * 화면별로 센 방문 수를 한 트랜잭션에서 누적 방문 수에 더한다. 처음 보는 화면이면 행을 새로 만든다.
+     * 다른 노드가 같은 화면의 행을 동시에 처음 만들면 트랜잭션 전체가 실패하므로, 호출하는 쪽이 다음에 다시 더해야 한다.
+     */
+    public void addAll(Map<String, Long> deltas) {
+        deltas.forEach((endpoint, delta) -> {
+            if (visitCountRepository.addVisits(endpoint, delta) == 0) {
+                visitCountRepository.save(VisitCount.of(endpoint, delta));
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public long total() {
+        return visitCountRepository.sumVisits();
+    }
+}
@@ -1,40 +1,122 @@
 package com.springstudy.projectboardadmin.service;
 
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.search.MeterNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
+/**
+ * 관리 화면 방문 수.
+ * <p>
+ * 화면마다 {@link LongAdder} 를 두어 여러 요청 스레드가 동시에 세도 서로 기다리지 않는다.
+ * 센 방문 수는 {@code project.visit.flush-interval} 마다 {@link VisitCountStore} 에 한꺼번에 더하고(write-behind),
+ * 그때 모든 노드의 누적 방문 수를 다시 읽어 둔다. 첫 주기 전에도 누적 방문 수를 보여주도록 시작할 때 한 번 읽는다.
+ * 방문 수를 읽을 때는 DB 에 가지 않고, 읽어 둔 누적 방문 수에 아직 더하지 않은 만큼을 더해 돌려준다.
+ * 종료할 때도 한 번 더한다.
+ */
+@Slf4j
 @Service
-public class VisitCounterService {
+public class VisitCounterService implements SchedulingConfigurer, DisposableBean {
 
-    private final MeterRegistry meterRegistry;
-
-    private static final List<String> viewEndpoints = List.of(
+    /** 방문 수를 세는 관리 화면의 URI 패턴 */
+    public static final List<String> VIEW_ENDPOINTS = List.of(
             "/management/articles",
             "/management/article-comments",
             "/management/user-accounts",
             "/admin/members"
     );
 
+    private final ProjectProperties.Visit visitProperties;
+    private final VisitCountStore visitCountStore;
+
+    /** 아직 DB 에 더하지 않은 화면별 방문 수 */
+    private final Map<String, LongAdder> pending = VIEW_ENDPOINTS.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), endpoint -> new LongAdder()));
+    private final LongAdder pendingTotal = new LongAdder();
+    /** 마지막으로 읽은 모든 노드의 누적 방문 수. 더하는 중인 이 노드의 방문 수도 포함한다. */
+    private final AtomicLong flushedTotal = new AtomicLong();
+
+    public VisitCounterService(ProjectProperties projectProperties, VisitCountStore visitCountStore) {
+        this.visitProperties = projectProperties.visit();
+        this.visitCountStore = visitCountStore;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::flush, visitProperties.flushInterval().toMillis());
+    }
+
+    /**
+     * 누적 방문 수를 읽어 둔다. 읽지 못하면 첫 주기에 다시 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadTotal() {
+        try {
+            flushedTotal.set(visitCountStore.total());
+        } catch (RuntimeException e) {
+            log.warn("누적 방문 수 조회 실패 - 다음 주기에 다시 읽습니다. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param endpoint 요청을 처리한 핸들러의 URI 패턴. 방문 수를 세는 화면이 아니면 무시한다.
+     */
+    public void increment(String endpoint) {
+        LongAdder counter = pending.get(endpoint);
+        if (counter == null) { return; }
+
+        counter.increment();
+        pendingTotal.increment();
+    }
+
     public long visitCount() {
-        long sum;
+        return flushedTotal.get() + pendingTotal.sum();
+    }
+
+    /**
+     * 쌓인 방문 수를 DB 에 더하고 누적 방문 수를 다시 읽는다. 더하지 못하면 쌓인 방문 수를 되돌려 다음에 다시 더한다.
+     */
+    public synchronized void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        pending.forEach((endpoint, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta > 0) { deltas.put(endpoint, delta); }
+        });
+        long drained = deltas.values().stream().mapToLong(Long::longValue).sum();
+        flushedTotal.addAndGet(drained);
+        pendingTotal.add(-drained);
 
         try {
-            sum = meterRegistry.get("http.server.requests")
-                    .timers()
-                    .stream()
-                    .filter(timer -> viewEndpoints.contains(timer.getId().getTag("uri")))
-                    .mapToLong(Timer::count)
-                    .sum();
-        } catch (MeterNotFoundException e) {
-            sum = 0L;
+            if (!deltas.isEmpty()) { visitCountStore.addAll(deltas); }
+        } catch (RuntimeException e) {
+            log.warn("방문 수 반영 실패 - 다음 주기에 다시 시도합니다. {}", e.getMessage());
+            deltas.forEach((endpoint, delta) -> pending.get(endpoint).add(delta));
+            pendingTotal.add(drained);
+            flushedTotal.addAndGet(-drained);
+            return;
         }
 
-        return sum;
+        try {
+            flushedTotal.set(visitCountStore.total());
+        } catch (RuntimeException e) {
+            log.warn("누적 방문 수 조회 실패 - {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
     }
 }
@@ -0,0 +1,42 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.service.support.SlidingWindowStats;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리 화면별 최근 한 시간의 요청 수와 응답 시간 분포. 이 노드에서 처리한 요청만 센다.
+ */
+@Service
+public class VisitStatisticsService {
+
+    private final Map<String, SlidingWindowStats> stats = VisitCounterService.VIEW_ENDPOINTS.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), endpoint -> new SlidingWindowStats()));
+
+    /**
+     * @param endpoint 요청을 처리한 핸들러의 URI 패턴. 통계를 모으는 화면이 아니면 무시한다.
+     * @param latencyNanos 요청을 받아 화면을 다 그릴 때까지 걸린 시간
+     */
+    public void record(String endpoint, long latencyNanos) {
+        SlidingWindowStats window = stats.get(endpoint);
+        if (window == null) { return; }
+
+        window.record(System.currentTimeMillis(), TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /**
+     * @return 화면별 통계. {@link VisitCounterService#VIEW_ENDPOINTS} 순서를 따른다.
+     */
+    public Map<String, SlidingWindowStats.Snapshot> snapshot() {
+        long now = System.currentTimeMillis();
+        Map<String, SlidingWindowStats.Snapshot> snapshots = new LinkedHashMap<>();
+        VisitCounterService.VIEW_ENDPOINTS.forEach(endpoint -> snapshots.put(endpoint, stats.get(endpoint).snapshot(now)));
+
+        return snapshots;
+    }
+}
@@ -0,0 +1,88 @@
+package com.springstudy.projectboardadmin.service.support;
+
+/**
+ * 관측한 응답 시간으로 동시 요청 수 한도를 스스로 조절한다(AIMD).
+ * <p>
+ * 응답 시간의 이동 평균을 기준선으로 두고, 한 요청의 응답 시간이 기준선의 {@code latencyTolerance} 배를 넘거나
+ * 요청이 연결 오류, 타임아웃, 5xx 로 실패하면 한도를 {@code backoffRatio} 배로 줄인다.
+ * 그렇지 않고 한도의 절반 이상을 실제로 쓰고 있었다면 한도를 1 늘린다.
+ * 한도를 다 쓰고 있으면 {@link #tryAcquire()} 가 기다리지 않고 바로 거절하므로, 남는 요청은 빠르게 버려진다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** 응답 시간 이동 평균에 새 표본을 반영하는 비율 */
+    private static final double RTT_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private double limit;
+    private int inFlight;
+    private double averageRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double latencyTolerance) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 요청 한도 범위가 올바르지 않습니다 - min: " + minLimit + ", max: " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * @return 요청을 보내도 되면 {@code true}. 이때는 요청이 끝난 뒤 반드시 {@code on*} 중 하나를 불러야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) { return false; }
+
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 요청이 정상적으로 끝났다.
+     *
+     * @param rttNanos 요청을 보내고 응답을 받기까지 걸린 시간
+     */
+    public synchronized void onSuccess(long rttNanos) {
+        int inFlightBeforeRelease = inFlight--;
+        averageRttNanos = averageRttNanos == 0 ? rttNanos : averageRttNanos + (rttNanos - averageRttNanos) * RTT_SMOOTHING;
+
+        if (rttNanos > averageRttNanos * latencyTolerance) {
+            backOff();
+        } else if (inFlightBeforeRelease * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * 요청이 게시판의 과부하로 보이는 이유(연결 오류, 타임아웃, 5xx)로 실패했다.
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        backOff();
+    }
+
+    /**
+     * 요청이 게시판과 무관한 이유로 끝나 한도 조절에 반영하지 않는다.
+     */
+    public synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void backOff() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,52 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import java.util.function.Supplier;
+
+/**
+ * 지금 스레드에서 나가는 게시판 요청이 백그라운드 작업(미리 받기, 복제본 동기화, 목록 다시 받기, 삭제 아웃박스, 상태 확인)의 것인지 표시한다.
+ * <p>
+ * 동시 요청 한도는 이 표시를 보고 백그라운드 요청을 따로 둔 한도({@code project.board.resilience.background-limit})로 제한하므로,
+ * 백그라운드 작업이 몰려도 사용자가 직접 보낸 요청의 자리를 차지하지 않는다.
+ * 표시는 스레드에 붙으므로, 작업을 다른 스레드 풀로 넘길 때는 {@link #propagate(Supplier)} 로 감싸 넘긴다.
+ */
+public final class BackgroundTraffic {
+
+    private static final ThreadLocal<Boolean> BACKGROUND = new ThreadLocal<>();
+
+    private BackgroundTraffic() {}
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(BACKGROUND.get());
+    }
+
+    /**
+     * @return 실행하는 동안 나가는 게시판 요청을 백그라운드 요청으로 표시하는 작업
+     */
+    public static Runnable wrap(Runnable task) {
+        return () -> call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 작업을 실행하는 동안 나가는 게시판 요청을 백그라운드 요청으로 표시한다.
+     */
+    public static <T> T call(Supplier<T> task) {
+        if (isActive()) { return task.get(); }
+
+        BACKGROUND.set(true);
+        try {
+            return task.get();
+        } finally {
+            BACKGROUND.remove();
+        }
+    }
+
+    /**
+     * 지금 스레드의 표시를 이어받는 작업. 다른 스레드 풀에서 실행할 작업을 넘길 때 쓴다.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        return isActive() ? () -> call(task) : task;
+    }
+}
@@ -0,0 +1,98 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 여러 건의 단건 조회를 한 번에 처리한다.
+ * 단건 조회 캐시에 있는 것은 캐시에서 꺼내고, 나머지만 {@code project.board.fetch.parallelism} 크기의 스레드 풀에서 동시에 요청한 뒤 캐시에 넣는다.
+ * 캐시가 설정되지 않은 환경에서는 모두 게시판에 요청한다.
+ */
+@Component
+public class BatchDetailLoader implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final int maxIds;
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public BatchDetailLoader(ProjectProperties projectProperties, ObjectProvider<CacheManager> cacheManager) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("board-detail-");
+        threadFactory.setDaemon(true);
+
+        this.executor = Executors.newFixedThreadPool(projectProperties.board().fetch().parallelism(), threadFactory);
+        this.maxIds = projectProperties.board().fetch().batchMaxIds();
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * @param cacheName 단건 조회 결과를 담는 캐시 이름
+     * @param ids 조회할 ID 목록. 중복된 ID 는 한 번만 조회한다.
+     * @param loader ID 하나를 게시판에서 조회하는 함수. 여러 스레드에서 동시에 호출된다.
+     * @return 요청한 순서대로의 조회 결과. 게시판에 없는 ID 는 빠진다.
+     * @throws TooManyIdsException 한 번에 조회할 수 있는 건수({@code project.board.fetch.batch-max-ids})를 넘은 경우
+     */
+    public <ID, T> List<T> load(String cacheName, Collection<ID> ids, Class<T> type, Function<ID, T> loader) {
+        List<ID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinctIds.size() > maxIds) {
+            throw new TooManyIdsException("조회할", maxIds, distinctIds.size());
+        }
+
+        Cache cache = Optional.ofNullable(cacheManager.getIfAvailable())
+                .map(manager -> manager.getCache(cacheName))
+                .orElse(null);
+
+        Map<ID, CompletableFuture<T>> results = new LinkedHashMap<>();
+        for (ID id : distinctIds) {
+            T cached = cache == null ? null : cache.get(id, type);
+            results.put(id, cached != null
+                    ? CompletableFuture.completedFuture(cached)
+                    : CompletableFuture.supplyAsync(BackgroundTraffic.propagate(() -> loadAndCache(id, loader, cache)), executor));
+        }
+
+        try {
+            return results.values().stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (CompletionException e) {
+            results.values().forEach(result -> result.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) { throw cause; }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static <ID, T> T loadAndCache(ID id, Function<ID, T> loader, Cache cache) {
+        try {
+            T loaded = loader.apply(id);
+            if (cache != null && loaded != null) { cache.put(id, loaded); }
+            return loaded;
+        } catch (NoSuchElementException | HttpClientErrorException.NotFound e) {
+            return null;
+        }
+    }
+}
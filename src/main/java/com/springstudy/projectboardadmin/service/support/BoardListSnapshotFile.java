@@ -0,0 +1,232 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * {@link BoardListSnapshots} 가 기억해 둔 목록을 파일에 저장하고, 다시 시작할 때 읽어 온다.
+ * 배포 직후에도 게시판 전체를 다시 받지 않고, 저장해 둔 목록을 바로 보여준 뒤 백그라운드에서 새로 받는다.
+ * <p>
+ * 파일 형식 (빅 엔디언, 문자열은 길이(int) + UTF-8):
+ * <pre>
+ * 헤더 : magic(int) version(int) entryCount(int) bodyLength(int) crc32(long)
+ * 목록 : uri(문자열) fetchedAt(long, epoch ms) type(문자열) pageNumber(int) pageSize(int, 페이지가 없으면 -1)
+ *        sort(문자열) totalElements(long) contentLength(int) content(JSON 배열)
+ * </pre>
+ * 읽을 때는 파일을 메모리에 매핑하고, 헤더의 magic, 버전, 본문 길이와 CRC32 가 모두 맞을 때만 목록을 되살린다.
+ * 하나라도 맞지 않으면 파일을 무시하고 빈 상태로 시작한다. 목록 항목은 {@code dto} 패키지의 타입으로만 되살린다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "project.board.list-snapshot", name = "persist", havingValue = "true")
+@Component
+public class BoardListSnapshotFile {
+
+    static final int MAGIC = 0x424C5350; // "BLSP"
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 4 + Long.BYTES;
+    private static final String ALLOWED_PACKAGE = "com.springstudy.projectboardadmin.dto.";
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public BoardListSnapshotFile(ProjectProperties projectProperties, ObjectMapper objectMapper) {
+        this.path = Path.of(projectProperties.board().listSnapshot().file());
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 파일에 저장하거나 파일에서 읽어 온 목록 하나
+     *
+     * @param uri 목록 요청 URI
+     * @param page 목록 응답
+     * @param fetchedAt 게시판에서 목록을 받은 일시
+     */
+    public record Entry(URI uri, Page<?> page, LocalDateTime fetchedAt) {
+
+        public static Entry of(URI uri, Page<?> page, LocalDateTime fetchedAt) {
+            return new Entry(uri, page, fetchedAt);
+        }
+    }
+
+    /**
+     * @return 저장해 둔 목록. 파일이 없거나 손상되었으면 빈 목록
+     */
+    public List<Entry> read() {
+        if (!Files.isRegularFile(path)) { return List.of(); }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            List<Entry> entries = decode(buffer);
+            log.info("목록 스냅샷 {}건을 읽었습니다 - path: {}", entries.size(), path);
+
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            log.warn("목록 스냅샷 파일을 무시합니다 - path: {}, {}", path, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 임시 파일에 모두 쓴 뒤 원래 파일과 바꾸므로, 쓰는 도중에 종료되어도 이전 파일이 남는다.
+     * 빈 목록은 어떤 타입인지 알 수 없어 저장하지 않는다.
+     */
+    public void write(Collection<Entry> entries) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(body);
+            int count = 0;
+            for (Entry entry : entries) {
+                if (entry.page().getContent().isEmpty()) { continue; }
+                encode(entry, out);
+                count++;
+            }
+            out.flush();
+
+            byte[] bodyBytes = body.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(bodyBytes);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(count)
+                    .putInt(bodyBytes.length)
+                    .putLong(crc.getValue());
+
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) { Files.createDirectories(parent); }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (OutputStream file = Files.newOutputStream(temp)) {
+                file.write(header.array());
+                file.write(bodyBytes);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("목록 스냅샷 파일 저장 실패 - path: {}, {}", path, e.getMessage());
+        }
+    }
+
+    private void encode(Entry entry, DataOutputStream out) throws IOException {
+        Page<?> page = entry.page();
+        Pageable pageable = page.getPageable();
+
+        writeString(out, entry.uri().toString());
+        out.writeLong(entry.fetchedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        writeString(out, page.getContent().get(0).getClass().getName());
+        out.writeInt(pageable.isPaged() ? pageable.getPageNumber() : 0);
+        out.writeInt(pageable.isPaged() ? pageable.getPageSize() : -1);
+        writeString(out, pageable.getSort().stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name())
+                .collect(Collectors.joining(";")));
+        out.writeLong(page.getTotalElements());
+        byte[] content = objectMapper.writeValueAsBytes(page.getContent());
+        out.writeInt(content.length);
+        out.write(content);
+    }
+
+    private List<Entry> decode(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES) { throw new IllegalStateException("헤더가 잘렸습니다."); }
+        if (buffer.getInt() != MAGIC) { throw new IllegalStateException("목록 스냅샷 파일이 아닙니다."); }
+        int version = buffer.getInt();
+        if (version != VERSION) { throw new IllegalStateException("지원하지 않는 버전입니다 - version: " + version); }
+
+        int count = buffer.getInt();
+        int bodyLength = buffer.getInt();
+        long checksum = buffer.getLong();
+        if (buffer.remaining() != bodyLength) { throw new IllegalStateException("본문 길이가 맞지 않습니다."); }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if (crc.getValue() != checksum) { throw new IllegalStateException("체크섬이 맞지 않습니다."); }
+
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(decodeEntry(buffer));
+        }
+
+        return entries;
+    }
+
+    private Entry decodeEntry(ByteBuffer buffer) throws IOException {
+        URI uri = URI.create(readString(buffer));
+        LocalDateTime fetchedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneId.systemDefault());
+        JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, allowedType(readString(buffer)));
+        int pageNumber = buffer.getInt();
+        int pageSize = buffer.getInt();
+        Sort sort = parseSort(readString(buffer));
+        long totalElements = buffer.getLong();
+
+        int contentLength = buffer.getInt();
+        ByteBuffer content = buffer.slice().limit(contentLength);
+        buffer.position(buffer.position() + contentLength);
+        List<?> items = objectMapper.readValue(new ByteBufferBackedInputStream(content), type);
+
+        Pageable pageable = pageSize < 0 ? Pageable.unpaged() : PageRequest.of(pageNumber, pageSize, sort);
+        return Entry.of(uri, new PageImpl<>(items, pageable, totalElements), fetchedAt);
+    }
+
+    private Class<?> allowedType(String className) {
+        if (!className.startsWith(ALLOWED_PACKAGE)) {
+            throw new IllegalStateException("되살릴 수 없는 타입입니다 - type: " + className);
+        }
+        try {
+            return ClassUtils.forName(className, getClass().getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalStateException("타입을 찾을 수 없습니다 - type: " + className, e);
+        }
+    }
+
+    private static Sort parseSort(String value) {
+        if (!StringUtils.hasText(value)) { return Sort.unsorted(); }
+
+        return Sort.by(Arrays.stream(value.split(";"))
+                .map(order -> order.split(","))
+                .map(parts -> new Sort.Order(Sort.Direction.valueOf(parts[1]), parts[0]))
+                .toList());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,250 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springstudy.projectboardadmin.dto.StalePage;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 목록 응답을 요청 URI 별로 마지막 성공분만 기억해 둔다.
+ * <p>
+ * {@code project.board.list-snapshot.enabled} 를 켜면 stale-while-revalidate 로 동작한다.
+ * 기억해 둔 목록이 있으면 게시판을 기다리지 않고 바로 돌려주고, 오래된 목록이면 백그라운드에서 다시 받기를 시작한다.
+ * 스케줄러는 {@code refresh-interval} 마다 최근에 본 목록을 모두 다시 받아 두므로, 목록 화면의 응답 시간은 게시판 응답 시간과 상관없어진다.
+ * 게시판에 처음 요청하는 목록만 게시판 응답을 기다린다.
+ * <p>
+ * 어느 쪽이든, 서킷이 열렸거나 벌크헤드나 동시 요청 한도가 가득 차 게시판에 요청을 보내지 못하면 기억해 둔 응답을 {@link StalePage} 로 돌려준다.
+ * <p>
+ * {@link BoardListSnapshotFile} 이 있으면 기억해 둔 목록을 주기적으로, 그리고 종료할 때 파일에 저장하고 시작할 때 읽어 온다.
+ * 읽어 온 목록은 다시 받는 방법을 모르므로, 처음 요청받을 때 그 요청의 함수로 백그라운드에서 다시 받는다.
+ */
+@Slf4j
+@Component
+public class BoardListSnapshots implements SchedulingConfigurer, DisposableBean {
+
+    private final ProjectProperties.ListSnapshot properties;
+    private final Cache<URI, Snapshot> snapshots;
+    private final Set<URI> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher;
+    private final BoardListSnapshotFile snapshotFile; // 파일 저장을 켜지 않았으면 null
+
+    public BoardListSnapshots(ProjectProperties projectProperties, ObjectProvider<BoardListSnapshotFile> snapshotFile) {
+        this.properties = projectProperties.board().listSnapshot();
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .build();
+        this.snapshotFile = snapshotFile.getIfAvailable(); // 종료할 때도 저장하도록, 시작할 때 한 번만 찾아 둔다.
+        if (this.snapshotFile != null) {
+            this.snapshotFile.read().forEach(entry ->
+                    snapshots.put(entry.uri(), new Snapshot(entry.page(), null, entry.fetchedAt()))
+            );
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("board-list-refresh-");
+        threadFactory.setDaemon(true);
+        this.refresher = Executors.newFixedThreadPool(properties.refreshThreads(), threadFactory);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (properties.enabled()) {
+            taskRegistrar.addFixedDelayTask(this::refreshAll, properties.refreshInterval().toMillis());
+        }
+        if (snapshotFile != null) {
+            taskRegistrar.addFixedDelayTask(this::persist, properties.persistInterval().toMillis());
+        }
+    }
+
+    /**
+     * @param uri 목록 요청 URI. 같은 목록인지 판단하는 키로 쓴다.
+     * @param call 게시판에 목록을 요청하는 함수. 백그라운드에서 다시 받을 때도 그대로 쓴다.
+     * @return 기억해 둔 목록이나 게시판 응답. 오래된 목록이면 {@link StalePage}
+     */
+    public <T> Page<T> fetch(URI uri, Supplier<Page<T>> call) {
+        Snapshot snapshot = snapshots.getIfPresent(uri);
+        if (properties.enabled() && snapshot != null) { return serve(uri, snapshot, call); }
+
+        try {
+            Page<T> page = call.get();
+            snapshots.put(uri, new Snapshot(page, call, LocalDateTime.now()));
+            return page;
+        } catch (CallNotPermittedException | BulkheadFullException | ConcurrencyLimitExceededException e) {
+            if (snapshot == null) { throw e; }
+
+            return snapshot.stale();
+        }
+    }
+
+    /**
+     * {@link #fetch} 의 논블로킹 버전. 게시판 응답을 기다려야 할 때만 {@code call} 을 구독한다.
+     * 백그라운드에서 다시 받을 때는 다시 받기 전용 스레드에서 {@code call} 이 끝나기를 기다린다.
+     */
+    public <T> Mono<Page<T>> fetchAsync(URI uri, Supplier<Mono<Page<T>>> call) {
+        return Mono.defer(() -> {
+            Supplier<Page<T>> blockingCall = () -> call.get().block();
+            Snapshot snapshot = snapshots.getIfPresent(uri);
+            if (properties.enabled() && snapshot != null) { return Mono.just(serve(uri, snapshot, blockingCall)); }
+
+            return call.get()
+                    .doOnNext(page -> snapshots.put(uri, new Snapshot(page, blockingCall, LocalDateTime.now())))
+                    .onErrorResume(
+                            e -> snapshot != null && (e instanceof CallNotPermittedException || e instanceof BulkheadFullException || e instanceof ConcurrencyLimitExceededException),
+                            e -> Mono.just(snapshot.<T>stale())
+                    );
+        });
+    }
+
+    /**
+     * 목록 URL 로 시작하는 모든 목록(페이지, 정렬, 검색어가 다른 것 포함)을 잊는다. 삭제처럼 목록이 바로 바뀌어야 할 때 쓴다.
+     *
+     * @param listUrl 쿼리 파라미터를 뺀 목록 URL. 예: {@code http://localhost:8080/api/articles}
+     */
+    public void evict(String listUrl) {
+        snapshots.asMap().keySet().removeIf(uri -> {
+            String key = uri.toString();
+            return key.equals(listUrl) || key.startsWith(listUrl + "?");
+        });
+    }
+
+    /**
+     * 최근에 본 목록을 모두 백그라운드에서 다시 받는다. {@code idle-timeout} 동안 아무도 보지 않은 목록은 버린다.
+     */
+    public void refreshAll() {
+        snapshots.asMap().forEach((uri, snapshot) -> {
+            if (snapshot.isIdleLongerThan(properties.idleTimeout())) {
+                snapshots.asMap().remove(uri, snapshot);
+            } else {
+                refreshAsync(uri, snapshot);
+            }
+        });
+    }
+
+    /**
+     * 기억해 둔 목록을 모두 파일에 저장한다. {@link BoardListSnapshotFile} 이 없으면 아무것도 하지 않는다.
+     */
+    public void persist() {
+        if (snapshotFile == null) { return; }
+
+        snapshotFile.write(snapshots.asMap().entrySet().stream()
+                .map(entry -> BoardListSnapshotFile.Entry.of(entry.getKey(), entry.getValue().page(), entry.getValue().fetchedAt()))
+                .toList());
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+        persist();
+    }
+
+    /**
+     * 기억해 둔 목록을 돌려주고, 오래되었으면 백그라운드에서 다시 받기를 시작한다.
+     */
+    private <T> Page<T> serve(URI uri, Snapshot snapshot, Supplier<Page<T>> call) {
+        snapshot.touch();
+        snapshot.attach(call);
+        if (snapshot.isOlderThan(properties.refreshInterval())) { refreshAsync(uri, snapshot); }
+
+        return snapshot.isOlderThan(properties.staleAfter()) ? snapshot.<T>stale() : snapshot.<T>page();
+    }
+
+    /**
+     * 같은 목록을 다시 받는 작업은 한 번에 하나만 돈다. 실패하면 기억해 둔 목록을 그대로 둔다.
+     */
+    private void refreshAsync(URI uri, Snapshot snapshot) {
+        Supplier<? extends Page<?>> call = snapshot.call();
+        if (call == null || !refreshing.add(uri)) { return; }
+
+        try {
+            refresher.execute(BackgroundTraffic.wrap(() -> {
+                try {
+                    Page<?> page = call.get();
+                    snapshots.asMap().replace(uri, snapshot.refreshed(page));
+                } catch (RuntimeException e) {
+                    log.debug("목록 다시 받기 실패 - uri: {}, {}", uri, e.getMessage());
+                } finally {
+                    refreshing.remove(uri);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(uri);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Page<?> page;
+        private final LocalDateTime fetchedAt;
+        private volatile Supplier<? extends Page<?>> call;
+        private volatile LocalDateTime accessedAt;
+
+        private Snapshot(Page<?> page, Supplier<? extends Page<?>> call, LocalDateTime fetchedAt) {
+            this.page = page;
+            this.call = call;
+            this.fetchedAt = fetchedAt;
+            this.accessedAt = LocalDateTime.now();
+        }
+
+        Snapshot refreshed(Page<?> page) {
+            Snapshot refreshed = new Snapshot(page, call, LocalDateTime.now());
+            refreshed.accessedAt = accessedAt;
+            return refreshed;
+        }
+
+        /**
+         * 파일에서 읽어 온 목록처럼 다시 받는 방법을 모르면, 요청에 쓰인 함수를 기억해 둔다.
+         */
+        void attach(Supplier<? extends Page<?>> call) {
+            if (this.call == null) { this.call = call; }
+        }
+
+        void touch() {
+            accessedAt = LocalDateTime.now();
+        }
+
+        boolean isOlderThan(Duration duration) {
+            return fetchedAt.plus(duration).isBefore(LocalDateTime.now());
+        }
+
+        boolean isIdleLongerThan(Duration duration) {
+            return accessedAt.plus(duration).isBefore(LocalDateTime.now());
+        }
+
+        Supplier<? extends Page<?>> call() {
+            return call;
+        }
+
+        LocalDateTime fetchedAt() {
+            return fetchedAt;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> Page<T> page() {
+            return (Page<T>) page;
+        }
+
+        <T> StalePage<T> stale() {
+            return StalePage.of(this.<T>page(), fetchedAt);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.response.PagedClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.IntFunction;
+
+/**
+ * {@link BoardPageSpliterator} 의 논블로킹 버전.
+ * 첫 페이지로 전체 페이지 수를 알아낸 뒤 나머지 페이지를 동시에 요청하되, 요소는 페이지 순서대로 내보낸다.
+ */
+public final class BoardPageFlux {
+
+    private BoardPageFlux() {}
+
+    /**
+     * @param pageFetcher 페이지 번호를 받아 해당 페이지를 요청하는 함수
+     * @param concurrency 동시에 요청할 수 있는 최대 페이지 수
+     * @return 모든 페이지의 요소를 페이지 순서대로 내보내는 {@link Flux}
+     */
+    public static <T> Flux<T> fetchAll(IntFunction<? extends Mono<? extends PagedClientResponse<T>>> pageFetcher, int concurrency) {
+        return pageFetcher.apply(0).flatMapMany(first -> {
+            if (first.content() == null || first.content().isEmpty()) { return Flux.<T>empty(); }
+
+            Flux<T> remaining = Flux.range(1, Math.max(first.totalPages() - 1, 0))
+                    .<PagedClientResponse<T>>flatMapSequential(pageFetcher::apply, Math.max(concurrency, 1))
+                    .flatMapIterable(PagedClientResponse::content);
+
+            return Flux.concat(Flux.fromIterable(first.content()), remaining);
+        });
+    }
+}
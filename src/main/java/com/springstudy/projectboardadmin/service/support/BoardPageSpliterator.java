@@ -0,0 +1,77 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.response.PagedClientResponse;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 게시판 API 의 페이지 응답을 한 페이지씩 요청하며 요소를 순서대로 내보내는 {@link Spliterator}.
+ * 메모리에는 항상 현재 페이지만 유지되므로, 게시판 크기와 관계없이 일정한 메모리로 전체 목록을 순회할 수 있다.
+ *
+ * @param <T> 페이지 요소 타입
+ */
+public class BoardPageSpliterator<T> implements Spliterator<T> {
+
+    private final IntFunction<? extends PagedClientResponse<T>> pageFetcher;
+
+    private Iterator<T> currentPage = null;
+    private int nextPageNumber = 0;
+    private int totalPages = 1; // 첫 페이지를 받기 전까지는 최소 한 페이지가 있다고 가정한다.
+
+    public BoardPageSpliterator(IntFunction<? extends PagedClientResponse<T>> pageFetcher) {
+        this.pageFetcher = pageFetcher;
+    }
+
+    /**
+     * @param pageFetcher 페이지 번호를 받아 해당 페이지를 요청하는 함수
+     * @return 필요할 때마다 다음 페이지를 요청하는 순차 스트림
+     */
+    public static <T> Stream<T> stream(IntFunction<? extends PagedClientResponse<T>> pageFetcher) {
+        return StreamSupport.stream(new BoardPageSpliterator<>(pageFetcher), false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (currentPage == null || !currentPage.hasNext()) {
+            if (nextPageNumber >= totalPages) { return false; }
+
+            int requestedPageNumber = nextPageNumber;
+            PagedClientResponse<T> response = pageFetcher.apply(requestedPageNumber);
+            if (response == null || response.content() == null || response.content().isEmpty()) {
+                totalPages = 0;
+                return false;
+            }
+
+            currentPage = response.content().iterator();
+            totalPages = response.totalPages();
+            // 응답의 페이지 번호가 요청과 다르더라도 같은 페이지를 반복 요청하지 않도록 한다.
+            nextPageNumber = Math.max(response.number(), requestedPageNumber) + 1;
+        }
+
+        action.accept(currentPage.next());
+        return true;
+    }
+
+    /**
+     * 다음 페이지 요청이 이전 페이지 응답에 의존하므로 분할하지 않는다.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,57 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+
+/**
+ * 게시판 목록 API 의 URI. 블로킹 서비스와 논블로킹 서비스가 같은 목록을 같은 URI 로 요청하도록 한곳에서 만든다.
+ * 목록 스냅샷과 조건부 요청은 URI 를 키로 쓰므로, 두 서비스의 URI 가 달라지면 서로의 응답을 재사용하지 못한다.
+ */
+public final class BoardUris {
+
+    private BoardUris() {}
+
+    /**
+     * @param listUrl 쿼리 파라미터를 뺀 목록 URL. 예: {@code http://localhost:8080/api/articles}
+     * @param searchParam 검색 파라미터 이름. {@code searchValue} 가 비어 있으면 붙이지 않는다.
+     */
+    public static URI list(String listUrl, Pageable pageable, String searchParam, String searchValue) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(listUrl)
+                .queryParam("page", pageable.getPageNumber())
+                .queryParam("size", pageable.getPageSize());
+        pageable.getSort().forEach(order ->
+                builder.queryParam("sort", order.getProperty() + "," + order.getDirection().name().toLowerCase())
+        );
+        if (StringUtils.hasText(searchValue)) {
+            builder.queryParam(searchParam, searchValue);
+        }
+
+        return builder.encode().build().toUri();
+    }
+
+    public static URI list(String listUrl, Pageable pageable) {
+        return list(listUrl, pageable, null, null);
+    }
+
+    /**
+     * 목록 URI 에 목록 전용 projection 을 붙인다.
+     */
+    public static URI withProjection(URI listUri, String projection) {
+        return UriComponentsBuilder.fromUri(listUri)
+                .queryParam("projection", projection)
+                .build(true)
+                .toUri();
+    }
+
+    /**
+     * 전체 목록을 페이지 단위로 훑을 때의 페이지. 페이지를 넘기는 동안 순서가 바뀌지 않도록 id 순으로 고정한다.
+     */
+    public static Pageable fullScanPage(int page, int pageSize, String idProperty) {
+        return PageRequest.of(page, pageSize, Sort.by(Sort.Direction.ASC, idProperty));
+    }
+}
@@ -0,0 +1,70 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.BulkDeleteResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 여러 건의 삭제 요청을 {@code project.board.bulk-delete.parallelism} 크기로 제한된 스레드 풀에서 동시에 보낸다.
+ * 한 건이 실패해도 나머지는 계속 진행하고, ID 별 결과를 모아 돌려준다.
+ */
+@Component
+public class BulkDeleter implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final int maxIds;
+
+    public BulkDeleter(ProjectProperties projectProperties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("board-delete-");
+        threadFactory.setDaemon(true);
+
+        this.executor = Executors.newFixedThreadPool(projectProperties.board().bulkDelete().parallelism(), threadFactory);
+        this.maxIds = projectProperties.board().bulkDelete().maxIds();
+    }
+
+    /**
+     * @param ids 삭제할 ID 목록. 중복된 ID 는 한 번만 삭제한다.
+     * @param deleter ID 하나를 삭제하고 결과({@link BulkDeleteResponse.Status#DELETED} 또는 {@link BulkDeleteResponse.Status#QUEUED})를 돌려주는 함수.
+     *                여러 스레드에서 동시에 호출된다.
+     * @return 모든 삭제가 끝난 뒤의 ID 별 결과
+     * @throws TooManyIdsException 한 번에 삭제할 수 있는 건수를 넘은 경우
+     */
+    public <ID> BulkDeleteResponse<ID> deleteAll(Collection<ID> ids, Function<ID, BulkDeleteResponse.Status> deleter) {
+        List<ID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinctIds.size() > maxIds) {
+            throw new TooManyIdsException("삭제할", maxIds, distinctIds.size());
+        }
+
+        List<CompletableFuture<BulkDeleteResponse.Result<ID>>> results = distinctIds.stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> delete(id, deleter), executor))
+                .toList();
+
+        return BulkDeleteResponse.of(results.stream().map(CompletableFuture::join).toList());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static <ID> BulkDeleteResponse.Result<ID> delete(ID id, Function<ID, BulkDeleteResponse.Status> deleter) {
+        try {
+            return BulkDeleteResponse.Result.of(id, deleter.apply(id));
+        } catch (HttpClientErrorException.NotFound e) {
+            return BulkDeleteResponse.Result.notFound(id);
+        } catch (RuntimeException e) {
+            return BulkDeleteResponse.Result.failed(id, e.getMessage());
+        }
+    }
+}
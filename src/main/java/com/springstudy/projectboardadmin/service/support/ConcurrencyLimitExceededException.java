@@ -0,0 +1,11 @@
+package com.springstudy.projectboardadmin.service.support;
+
+/**
+ * {@link AdaptiveConcurrencyLimiter} 의 동시 요청 한도를 다 써서 게시판에 요청을 보내지 않고 거절했다.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(int limit) {
+        super("게시판 동시 요청 한도(" + limit + ")를 넘어 요청을 거절했습니다.");
+    }
+}
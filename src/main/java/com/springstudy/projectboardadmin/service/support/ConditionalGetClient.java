@@ -0,0 +1,88 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+
+/**
+ * 게시판 API 의 GET 응답에 담긴 검증자({@code ETag}, {@code Last-Modified})를 URI 별로 기억해 두었다가
+ * 다음 요청을 조건부 요청으로 보낸다. 게시판이 {@code 304 Not Modified} 로 응답하면 본문을 다시 받거나
+ * 역직렬화하지 않고, 이전에 만들어 둔 응답 객체를 그대로 돌려준다.
+ * 같은 URI 로 동시에 들어온 요청은 {@link RequestCoalescer} 로 합쳐 게시판에는 한 번만 보낸다.
+ * <p>
+ * 응답 객체를 {@code max-entries} 개까지 들고 있으므로 목록 화면과 단건 조회에만 쓴다.
+ * 전체 조회나 동기화처럼 큰 페이지를 한 번씩만 넘기는 요청은 이 클라이언트를 거치지 않는다.
+ */
+@Component
+public class ConditionalGetClient {
+
+    private final RestTemplate restTemplate;
+    private final RequestCoalescer requestCoalescer;
+    private final boolean enabled;
+    private final Cache<URI, ValidatedResponse> responses;
+
+    public ConditionalGetClient(RestTemplate restTemplate, RequestCoalescer requestCoalescer, ProjectProperties projectProperties) {
+        ProjectProperties.ConditionalGet conditionalGet = projectProperties.board().conditionalGet();
+
+        this.restTemplate = restTemplate;
+        this.requestCoalescer = requestCoalescer;
+        this.enabled = conditionalGet.enabled();
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(conditionalGet.maxEntries())
+                .build();
+    }
+
+    public <T> T getForObject(URI uri, Class<T> responseType) {
+        return requestCoalescer.execute(new RequestKey(uri, responseType), () -> exchange(uri, responseType));
+    }
+
+    private <T> T exchange(URI uri, Class<T> responseType) {
+        if (!enabled) { return restTemplate.getForObject(uri, responseType); }
+
+        ValidatedResponse cached = responses.getIfPresent(uri);
+        RequestEntity<Void> request = RequestEntity.get(uri)
+                .headers(headers -> { if (cached != null) { cached.applyTo(headers); } })
+                .build();
+        ResponseEntity<T> response = restTemplate.exchange(request, responseType);
+
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null && responseType.isInstance(cached.body())) {
+            return responseType.cast(cached.body());
+        }
+
+        T body = response.getBody();
+        ValidatedResponse validated = ValidatedResponse.of(response.getHeaders(), body);
+        if (validated != null) {
+            responses.put(uri, validated);
+        } else {
+            responses.invalidate(uri);
+        }
+
+        return body;
+    }
+
+    private record RequestKey(URI uri, Class<?> responseType) {}
+
+    private record ValidatedResponse(String eTag, long lastModified, Object body) {
+
+        static ValidatedResponse of(HttpHeaders headers, Object body) {
+            String eTag = headers.getETag();
+            long lastModified = headers.getLastModified();
+            if (body == null || (eTag == null && lastModified < 0)) { return null; }
+
+            return new ValidatedResponse(eTag, lastModified, body);
+        }
+
+        void applyTo(HttpHeaders headers) {
+            if (eTag != null) { headers.setIfNoneMatch(eTag); }
+            if (lastModified >= 0) { headers.setIfModifiedSince(lastModified); }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 목록 화면에 보이는 페이지의 상세 정보를 미리 받아 단건 조회 캐시를 채워 둔다.
+ * <p>
+ * {@code project.board.prefetch} 의 작은 스레드 풀과 대기열에서만 돌고, 대기열이 차면 남은 건은 버린다.
+ * 미리 받는 요청은 {@link BackgroundTraffic} 으로 표시해 백그라운드 작업의 동시 요청 한도로 제한하고,
+ * 사용자가 직접 보낸 요청이 동시 요청 한도의 {@code max-in-flight-ratio} 를 넘으면 미리 받기를 멈추므로,
+ * 사용자가 직접 보낸 요청과 커넥션이나 한도를 다투지 않는다. 실패해도 조용히 넘어간다.
+ */
+@Slf4j
+@Component
+public class DetailPrefetcher implements DisposableBean {
+
+    private final ProjectProperties.Prefetch prefetchProperties;
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter;
+    private final ThreadPoolExecutor executor;
+
+    public DetailPrefetcher(
+            ProjectProperties projectProperties,
+            ObjectProvider<CacheManager> cacheManager,
+            ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter
+    ) {
+        this.prefetchProperties = projectProperties.board().prefetch();
+        this.cacheManager = cacheManager;
+        this.concurrencyLimiter = concurrencyLimiter;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("board-prefetch-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+                prefetchProperties.threads(),
+                prefetchProperties.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(prefetchProperties.queueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 캐시에 없는 ID 의 상세 정보를 백그라운드에서 받아 캐시에 넣는다. 바로 돌아온다.
+     *
+     * @param cacheName 단건 조회 결과를 담는 캐시 이름
+     * @param ids 지금 화면에 보이는 ID 목록
+     * @param loader ID 하나를 게시판에서 조회하는 함수
+     */
+    public <ID> void prefetch(String cacheName, Collection<ID> ids, Function<ID, ?> loader) {
+        Cache cache = cacheOf(cacheName);
+        if (!prefetchProperties.enabled() || cache == null) { return; }
+
+        for (ID id : ids) {
+            if (cache.get(id) != null) { continue; }
+            if (isBusy()) { return; }
+            try {
+                executor.execute(BackgroundTraffic.wrap(() -> load(cache, id, loader)));
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 목록 응답에 이미 상세 정보가 다 들어 있는 경우, 게시판에 요청하지 않고 그대로 캐시에 넣는다.
+     */
+    public <ID, T> void putAll(String cacheName, Collection<T> items, Function<T, ID> id) {
+        Cache cache = cacheOf(cacheName);
+        if (!prefetchProperties.enabled() || cache == null) { return; }
+
+        items.forEach(item -> cache.putIfAbsent(id.apply(item), item));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <ID> void load(Cache cache, ID id, Function<ID, ?> loader) {
+        if (cache.get(id) != null || isBusy()) { return; }
+        try {
+            Object loaded = loader.apply(id);
+            if (loaded != null) { cache.putIfAbsent(id, loaded); }
+        } catch (RuntimeException e) {
+            log.debug("상세 정보 미리 받기 실패 - id: {}, {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자가 직접 보낸 요청이 동시 요청 한도의 {@code max-in-flight-ratio} 이상이면 바쁜 것으로 본다.
+     */
+    private boolean isBusy() {
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiter.getIfAvailable();
+        if (limiter == null) { return false; }
+
+        return limiter.getInFlight() >= limiter.getLimit() * prefetchProperties.maxInFlightRatio();
+    }
+
+    private Cache cacheOf(String cacheName) {
+        return Optional.ofNullable(cacheManager.getIfAvailable())
+                .map(manager -> manager.getCache(cacheName))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * 게시판 API 의 HAL 응답 본문을 {@link JsonParser} 로 읽으면서 {@code _embedded} 배열의 요소를 하나씩 넘겨준다.
+ * 응답 전체를 객체 트리로 만들지 않으므로, 한 번에 메모리에 올라가는 것은 요소 하나와 페이지 정보뿐이다.
+ */
+@Component
+public class HalStreamingReader {
+
+    private static final List<MediaType> ACCEPT = List.of(MediaType.valueOf("application/hal+json"), MediaType.APPLICATION_JSON);
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    public HalStreamingReader(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 모든 페이지를 차례대로 요청하며 요소를 하나씩 넘겨준다.
+     *
+     * @param pageUri 페이지 번호를 받아 해당 페이지의 URI 를 만드는 함수
+     * @param relation {@code _embedded} 안의 배열 이름 (예: {@code articles})
+     */
+    public <T> void readAllPages(IntFunction<URI> pageUri, String relation, Class<T> elementType, Consumer<? super T> action) {
+        int pageNumber = 0;
+        int totalPages = 1;
+
+        while (pageNumber < totalPages) {
+            Page page = readPage(pageUri.apply(pageNumber), relation, elementType, action);
+            if (page == null) { return; }
+
+            totalPages = page.totalPages();
+            pageNumber = Math.max(page.number(), pageNumber) + 1;
+        }
+    }
+
+    /**
+     * 한 페이지를 요청하며 요소를 하나씩 넘겨준다.
+     *
+     * @return 응답의 {@code page} 정보. 응답에 없으면 {@code null}
+     */
+    public <T> Page readPage(URI uri, String relation, Class<T> elementType, Consumer<? super T> action) {
+        return restTemplate.execute(
+                uri,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(ACCEPT),
+                response -> read(response.getBody(), relation, elementType, action)
+        );
+    }
+
+    public <T> Page read(InputStream body, String relation, Class<T> elementType, Consumer<? super T> action) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) { return null; }
+
+            Page page = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("_embedded".equals(fieldName) && value == JsonToken.START_OBJECT) {
+                    readEmbedded(parser, relation, elementType, action);
+                } else if ("page".equals(fieldName) && value == JsonToken.START_OBJECT) {
+                    page = objectMapper.readValue(parser, Page.class);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return page;
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시판 응답을 읽을 수 없습니다 - relation: " + relation, e);
+        }
+    }
+
+    private <T> void readEmbedded(JsonParser parser, String relation, Class<T> elementType, Consumer<? super T> action) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (relation.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    action.accept(objectMapper.readValue(parser, elementType));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * HAL 응답의 {@code page} 정보
+     */
+    public record Page(
+            int size,
+            long totalElements,
+            int totalPages,
+            int number
+    ) {}
+}
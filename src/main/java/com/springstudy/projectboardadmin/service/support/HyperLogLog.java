@@ -0,0 +1,107 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 서로 다른 값의 수를 고정된 메모리로 추정한다(HyperLogLog).
+ * <p>
+ * 64비트 해시의 앞 {@value #PRECISION}비트로 레지스터 {@value #REGISTERS}개 중 하나를 고르고,
+ * 나머지 비트에서 처음 1이 나오는 위치의 최댓값을 레지스터에 남긴다. 값이 얼마나 많아도 크기는 같고, 표준 오차는 약 1.6% 이다.
+ * <p>
+ * 두 스케치를 합치면 레지스터마다 큰 값을 고르면 되므로, 날짜별 스케치를 기간으로 묶거나 여러 노드의 스케치를 합칠 수 있다.
+ * 합치기는 여러 번 해도 결과가 같다. 레지스터는 더 커질 때만 CAS 로 바꾸므로 여러 스레드가 잠금 없이 동시에 더할 수 있다.
+ */
+public class HyperLogLog {
+
+    static final int PRECISION = 12;
+    static final int REGISTERS = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final AtomicIntegerArray registers = new AtomicIntegerArray(REGISTERS);
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length != REGISTERS) {
+            throw new IllegalArgumentException("레지스터 수가 맞지 않습니다 - length: " + bytes.length);
+        }
+
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < REGISTERS; i++) {
+            sketch.registers.set(i, bytes[i]);
+        }
+
+        return sketch;
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        raise(index, rank);
+    }
+
+    /**
+     * 다른 스케치가 본 값을 이 스케치에도 반영한다.
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            raise(i, other.registers.get(i));
+        }
+
+        return this;
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTERS; i++) {
+            int register = registers.get(i);
+            sum += 1.0 / (1L << register);
+            if (register == 0) { zeros++; }
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros); // 값이 적을 때는 빈 레지스터 수로 센다.
+        }
+
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[REGISTERS];
+        for (int i = 0; i < REGISTERS; i++) {
+            bytes[i] = (byte) registers.get(i);
+        }
+
+        return bytes;
+    }
+
+    private void raise(int index, int rank) {
+        int current;
+        do {
+            current = registers.get(index);
+            if (current >= rank) { return; }
+        } while (!registers.compareAndSet(index, current, rank));
+    }
+
+    /**
+     * UTF-8 바이트의 FNV-1a 해시에 MurmurHash3 의 마무리 섞기를 더해, 비슷한 문자열도 비트가 고르게 퍼지게 한다.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
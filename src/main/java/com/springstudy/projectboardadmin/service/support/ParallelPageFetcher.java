@@ -0,0 +1,151 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.PagedClientResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 게시판 API 의 전체 페이지를 앞질러 동시에 요청하고, 받은 요소는 페이지 순서대로 넘겨주는 컴포넌트.
+ * 첫 페이지 응답의 {@code totalPages} 로 나머지 페이지 수를 알아낸 뒤,
+ * {@code project.board.fetch.parallelism} 크기로 제한된 스레드 풀에서 나머지 페이지를 요청한다.
+ * 한 번의 조회에서 아직 넘겨주지 않은 페이지도 {@code parallelism} 개까지만 들고 있으므로, 전체 목록이 커져도 메모리 사용량은 일정하다.
+ */
+@Component
+public class ParallelPageFetcher implements DisposableBean {
+
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public ParallelPageFetcher(ProjectProperties projectProperties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("board-fetch-");
+        threadFactory.setDaemon(true);
+
+        this.parallelism = projectProperties.board().fetch().parallelism();
+        this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    /**
+     * @param pageFetcher 페이지 번호를 받아 해당 페이지를 요청하는 함수. 여러 스레드에서 동시에 호출된다.
+     * @param action 모든 페이지의 요소를 페이지 순서대로 받는다. 호출한 스레드에서만 실행된다.
+     */
+    public <T> void forEach(IntFunction<? extends PagedClientResponse<T>> pageFetcher, Consumer<? super T> action) {
+        try (Stream<T> elements = stream(pageFetcher)) {
+            elements.forEach(action);
+        }
+    }
+
+    /**
+     * 요소를 페이지 순서대로 내보내는 순차 스트림을 반환한다. 첫 요소를 꺼낼 때 첫 페이지를 요청하고,
+     * 그 뒤로는 넘겨주지 않은 페이지가 {@code parallelism} 개가 되도록 다음 페이지를 앞질러 요청한다.
+     * 끝까지 소비하지 않을 때는 스트림을 닫아야 앞질러 요청한 페이지가 취소된다.
+     *
+     * @param pageFetcher 페이지 번호를 받아 해당 페이지를 요청하는 함수. 여러 스레드에서 동시에 호출된다.
+     */
+    public <T> Stream<T> stream(IntFunction<? extends PagedClientResponse<T>> pageFetcher) {
+        PrefetchingSpliterator<T> spliterator = new PrefetchingSpliterator<>(pageFetcher);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static <T> List<T> contentOf(PagedClientResponse<T> response) {
+        return response == null || response.content() == null ? List.of() : response.content();
+    }
+
+    /**
+     * 받은 페이지를 순서대로 꺼내며, 꺼낸 만큼 다음 페이지를 앞질러 요청한다.
+     * 다음 페이지 요청이 첫 페이지의 {@code totalPages} 에 의존하므로 분할하지 않는다.
+     */
+    private final class PrefetchingSpliterator<T> implements Spliterator<T> {
+
+        private final IntFunction<? extends PagedClientResponse<T>> pageFetcher;
+        private final Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>(parallelism);
+
+        private Iterator<T> currentPage = null;
+        private int nextPageNumber = 0;
+        private int totalPages = 1; // 첫 페이지를 받기 전까지는 최소 한 페이지가 있다고 가정한다.
+
+        private PrefetchingSpliterator(IntFunction<? extends PagedClientResponse<T>> pageFetcher) {
+            this.pageFetcher = pageFetcher;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (currentPage == null || !currentPage.hasNext()) {
+                if (nextPageNumber == 0) {
+                    PagedClientResponse<T> firstPage = pageFetcher.apply(nextPageNumber++);
+                    if (firstPage == null || firstPage.content() == null) { return false; }
+
+                    totalPages = firstPage.totalPages();
+                    requestAhead();
+                    currentPage = firstPage.content().iterator();
+                } else {
+                    if (inFlight.isEmpty()) { return false; }
+
+                    List<T> content = join(inFlight.poll());
+                    requestAhead();
+                    currentPage = content.iterator();
+                }
+            }
+
+            action.accept(currentPage.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+        private void requestAhead() {
+            while (nextPageNumber < totalPages && inFlight.size() < parallelism) {
+                int page = nextPageNumber++;
+                inFlight.add(CompletableFuture.supplyAsync(BackgroundTraffic.propagate(() -> contentOf(pageFetcher.apply(page))), executor));
+            }
+        }
+
+        private List<T> join(CompletableFuture<List<T>> page) {
+            try {
+                return page.join();
+            } catch (CompletionException e) {
+                cancel();
+                if (e.getCause() instanceof RuntimeException cause) { throw cause; }
+                throw e;
+            }
+        }
+
+        private void cancel() {
+            inFlight.forEach(page -> page.cancel(true));
+            inFlight.clear();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나로 합친다(single-flight).
+ * 먼저 도착한 호출자만 실제로 요청을 보내고, 그동안 같은 키로 들어온 호출자들은 그 결과를 함께 기다린다.
+ * 결과는 요청이 끝나는 즉시 잊으므로, 캐시가 아니라 동시에 몰린 중복 요청만 줄여준다.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key 같은 요청인지 판단하는 키. 같은 키의 요청은 같은 타입의 결과를 돌려주어야 한다.
+     * @param call 실제 요청
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> call) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) { return (T) await(existing); }
+
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * @return 지금 진행 중인 서로 다른 요청 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) { throw cause; }
+            if (e.getCause() instanceof Error cause) { throw cause; }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 한 시간의 요청 수와 응답 시간 분포를 고정 크기 링 버퍼에 모은다.
+ * <p>
+ * 요청 수는 초 단위 칸 3600개, 응답 시간 분포는 분 단위 칸 60개에 담는다. 칸은 자기가 맡은 시각(에포크 초, 분)을 들고 있어서,
+ * 한 바퀴 돌아 지난 시각의 칸을 만나면 새 칸으로 바꿔 끼운다(CAS). 기록은 잠금 없이 {@link LongAdder} 와 {@link AtomicLongArray} 에만 더한다.
+ * <p>
+ * 응답 시간 분포는 HdrHistogram 과 같은 로그-선형 구간을 쓴다. 2의 거듭제곱 구간마다 16칸으로 나누므로, 백분위 값의 상대 오차는 1/16 이내다.
+ * 약 134초({@value #MAX_MICROS} 마이크로초)보다 긴 응답은 가장 마지막 칸에 센다.
+ */
+public class SlidingWindowStats {
+
+    static final int SECONDS = 3600;
+    static final int MINUTES = 60;
+    static final long MAX_MICROS = (1L << 27) - 1;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HISTOGRAM_BUCKETS = indexOf(MAX_MICROS) + 1;
+
+    private final AtomicReferenceArray<CountBucket> seconds = new AtomicReferenceArray<>(SECONDS);
+    private final AtomicReferenceArray<HistogramBucket> minutes = new AtomicReferenceArray<>(MINUTES);
+
+    /**
+     * 최근 한 시간의 통계
+     *
+     * @param requests 한 시간 동안의 요청 수
+     * @param perMinute 분당 요청 수. 마지막 값이 지금 분이다.
+     * @param perSecond 최근 60초의 초당 요청 수. 마지막 값이 지금 초다.
+     * @param p50Millis 응답 시간 중앙값(ms)
+     * @param p95Millis 응답 시간 95 백분위(ms)
+     * @param p99Millis 응답 시간 99 백분위(ms)
+     */
+    public record Snapshot(
+            long requests,
+            long[] perMinute,
+            long[] perSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis
+    ) {}
+
+    public void record(long epochMillis, long latencyMicros) {
+        long second = epochMillis / 1000;
+        countBucket(second).count.increment();
+        histogramBucket(second / 60).record(latencyMicros);
+    }
+
+    public Snapshot snapshot(long epochMillis) {
+        long nowSecond = epochMillis / 1000;
+        long nowMinute = nowSecond / 60;
+
+        long[] perMinute = new long[MINUTES];
+        long[] perSecond = new long[60];
+        for (long second = nowSecond - SECONDS + 1; second <= nowSecond; second++) {
+            CountBucket bucket = seconds.get(slot(second, SECONDS));
+            if (bucket == null || bucket.second != second) { continue; }
+
+            long count = bucket.count.sum();
+            long minutesAgo = nowMinute - second / 60;
+            if (minutesAgo < MINUTES) { perMinute[(int) (MINUTES - 1 - minutesAgo)] += count; }
+            long secondsAgo = nowSecond - second;
+            if (secondsAgo < perSecond.length) { perSecond[(int) (perSecond.length - 1 - secondsAgo)] = count; }
+        }
+
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        long requests = 0;
+        for (long minute = nowMinute - MINUTES + 1; minute <= nowMinute; minute++) {
+            HistogramBucket bucket = minutes.get(slot(minute, MINUTES));
+            if (bucket == null || bucket.minute != minute) { continue; }
+
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                long count = bucket.counts.get(i);
+                histogram[i] += count;
+                requests += count;
+            }
+        }
+
+        return new Snapshot(
+                requests,
+                perMinute,
+                perSecond,
+                percentileMillis(histogram, requests, 0.50),
+                percentileMillis(histogram, requests, 0.95),
+                percentileMillis(histogram, requests, 0.99)
+        );
+    }
+
+    private CountBucket countBucket(long second) {
+        int slot = slot(second, SECONDS);
+        while (true) {
+            CountBucket bucket = seconds.get(slot);
+            if (bucket != null && bucket.second >= second) {
+                return bucket.second == second ? bucket : new CountBucket(second); // 시계가 거꾸로 가면 버린다.
+            }
+            CountBucket fresh = new CountBucket(second);
+            if (seconds.compareAndSet(slot, bucket, fresh)) { return fresh; }
+        }
+    }
+
+    private HistogramBucket histogramBucket(long minute) {
+        int slot = slot(minute, MINUTES);
+        while (true) {
+            HistogramBucket bucket = minutes.get(slot);
+            if (bucket != null && bucket.minute >= minute) {
+                return bucket.minute == minute ? bucket : new HistogramBucket(minute);
+            }
+            HistogramBucket fresh = new HistogramBucket(minute);
+            if (minutes.compareAndSet(slot, bucket, fresh)) { return fresh; }
+        }
+    }
+
+    private static int slot(long time, int size) {
+        return (int) Math.floorMod(time, (long) size);
+    }
+
+    private static double percentileMillis(long[] histogram, long total, double percentile) {
+        if (total == 0) { return 0; }
+
+        long rank = (long) Math.ceil(total * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            cumulative += histogram[i];
+            if (cumulative >= rank) { return upperBoundOf(i) / 1000.0; }
+        }
+
+        return MAX_MICROS / 1000.0;
+    }
+
+    /**
+     * 16 미만은 값 그대로, 그 이상은 2의 거듭제곱 구간마다 16칸으로 나눈 칸 번호
+     */
+    static int indexOf(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_MICROS));
+        if (value < SUB_BUCKETS) { return (int) value; }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return 칸에 들어가는 가장 큰 값
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) { return index; }
+
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static final class CountBucket {
+
+        private final long second;
+        private final LongAdder count = new LongAdder();
+
+        private CountBucket(long second) {
+            this.second = second;
+        }
+    }
+
+    private static final class HistogramBucket {
+
+        private final long minute;
+        private final AtomicLongArray counts = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        private HistogramBucket(long minute) {
+            this.minute = minute;
+        }
+
+        void record(long latencyMicros) {
+            counts.incrementAndGet(indexOf(latencyMicros));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 한 번에 처리할 수 있는 것보다 많은 ID 를 요청했다. 요청한 쪽의 잘못이므로 400 으로 응답한다.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class TooManyIdsException extends IllegalArgumentException {
+
+    public TooManyIdsException(String action, int maxIds, int requested) {
+        super("한 번에 " + action + " 수 있는 건수(" + maxIds + ")를 넘었습니다 - 요청: " + requested);
+    }
+}
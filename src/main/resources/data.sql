@@ -1,7 +1,21 @@
+-- 스키마를 지우지 않고(ddl-auto: update) 시작할 때마다 다시 실행되므로, 없는 계정만 넣는다.
 insert into admin_account (user_id, user_password, role_types, nickname, email, memo, created_at, created_by, modified_at,
-                          modified_by)
-values ('uno', '{noop}1234', 'USER', 'Uno', 'uno@mail.com', 'I am Uno.', now(), 'uno', now(), 'uno'),
-       ('mark', '{noop}1234', 'MANAGER', 'Mark', 'mark@mail.com', 'I am Mark.', now(), 'mark', now(), 'mark'),
-       ('susan', '{noop}1234', 'MANAGER,DEVELOPER', 'Susan', 'susan@mail.com', 'I am Susan.', now(), 'susan', now(), 'susan'),
-       ('ihj', '{noop}1234', 'ADMIN', 'Ihj', 'ihj@mail.com', 'I am Ihj.', now(), 'ihj', now(), 'ihj')
-;
+                           modified_by)
+select 'uno', '{noop}1234', 'USER', 'Uno', 'uno@mail.com', 'I am Uno.', now(), 'uno', now(), 'uno'
+from dual
+where not exists (select 1 from admin_account where user_id = 'uno');
+insert into admin_account (user_id, user_password, role_types, nickname, email, memo, created_at, created_by, modified_at,
+                           modified_by)
+select 'mark', '{noop}1234', 'MANAGER', 'Mark', 'mark@mail.com', 'I am Mark.', now(), 'mark', now(), 'mark'
+from dual
+where not exists (select 1 from admin_account where user_id = 'mark');
+insert into admin_account (user_id, user_password, role_types, nickname, email, memo, created_at, created_by, modified_at,
+                           modified_by)
+select 'susan', '{noop}1234', 'MANAGER,DEVELOPER', 'Susan', 'susan@mail.com', 'I am Susan.', now(), 'susan', now(), 'susan'
+from dual
+where not exists (select 1 from admin_account where user_id = 'susan');
+insert into admin_account (user_id, user_password, role_types, nickname, email, memo, created_at, created_by, modified_at,
+                           modified_by)
+select 'ihj', '{noop}1234', 'ADMIN', 'Ihj', 'ihj@mail.com', 'I am Ihj.', now(), 'ihj', now(), 'ihj'
+from dual
+where not exists (select 1 from admin_account where user_id = 'ihj');
@@ -0,0 +1,26 @@
+$(document).ready(() => {
+    const table = $('#visit-stats tbody');
+    if (table.length === 0) {
+        return;
+    }
+
+    const render = (stats) => {
+        table.empty();
+        Object.entries(stats).forEach(([endpoint, snapshot]) => {
+            const lastMinute = snapshot.perMinute[snapshot.perMinute.length - 1];
+            const latency = [snapshot.p50Millis, snapshot.p95Millis, snapshot.p99Millis]
+                .map((millis) => millis.toFixed(1))
+                .join(' / ');
+            const row = $('<tr>');
+            row.append($('<td>').text(endpoint.replace('/management/', '')));
+            row.append($('<td>').text(lastMinute));
+            row.append($('<td>').text(latency));
+            table.append(row);
+        });
+    };
+
+    const refresh = () => $.getJSON('/actuator/visitstats').done(render);
+
+    refresh();
+    setInterval(refresh, 30000);
+});
@@ -0,0 +1,176 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.service.support.AdaptiveConcurrencyLimiter;
+import com.springstudy.projectboardadmin.service.support.BackgroundTraffic;
+import com.springstudy.projectboardadmin.service.support.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("게시판 API 적응형 동시 요청 한도")
+class BoardConcurrencyLimitInterceptorTest {
+
+    private static final URI ARTICLES = URI.create("http://localhost/api/articles");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private AdaptiveConcurrencyLimiter backgroundLimiter;
+    private BoardConcurrencyLimitInterceptor sut;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 0.5, 2.0);
+        backgroundLimiter = new AdaptiveConcurrencyLimiter(1, 1, 2, 0.5, 2.0);
+        sut = new ResilienceConfig().boardConcurrencyLimitInterceptor(limiter, backgroundLimiter, meterRegistry);
+    }
+
+    @DisplayName("한도만큼 요청이 진행 중이면, 요청을 보내지 않고 거절한 뒤 거절 수를 센다.")
+    @Test
+    void givenLimitReached_whenCalling_thenRejectsAndCounts() {
+        // Given
+        RestTemplate restTemplate = restTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        for (int i = 0; i < 4; i++) { limiter.tryAcquire(); }
+
+        // When
+        Throwable t = catchThrowable(() -> restTemplate.getForObject(ARTICLES, String.class));
+
+        // Then
+        assertThat(t).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(meterRegistry.get("board.concurrency.rejected").tag("traffic", "foreground").counter().count()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+        server.verify();
+    }
+
+    @DisplayName("백그라운드 작업의 요청은 따로 둔 한도로 제한하므로, 그 한도가 차도 사용자 요청은 보낸다.")
+    @Test
+    void givenBackgroundLimitReached_whenCalling_thenRejectsOnlyBackgroundTraffic() {
+        // Given
+        RestTemplate restTemplate = restTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(ARTICLES)).andRespond(withSuccess());
+        backgroundLimiter.tryAcquire();
+
+        // When
+        Throwable background = catchThrowable(() -> BackgroundTraffic.call(() -> restTemplate.getForObject(ARTICLES, String.class)));
+        Throwable foreground = catchThrowable(() -> restTemplate.getForObject(ARTICLES, String.class));
+
+        // Then
+        assertThat(background).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(foreground).isNull();
+        assertThat(meterRegistry.get("board.concurrency.rejected").tag("traffic", "background").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.concurrency.rejected").tag("traffic", "foreground").counter().count()).isZero();
+        assertThat(limiter.getInFlight()).isZero();
+        server.verify();
+    }
+
+    @DisplayName("자리는 응답 헤더가 아니라, 본문을 읽고 응답을 닫을 때 돌려준다.")
+    @Test
+    void givenResponseBeingRead_whenCalling_thenHoldsPermitUntilClosed() {
+        // Given
+        RestTemplate restTemplate = restTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(ARTICLES)).andRespond(withSuccess());
+
+        // When
+        Integer inFlightWhileReading = restTemplate.execute(ARTICLES, HttpMethod.GET, null, response -> limiter.getInFlight());
+
+        // Then
+        assertThat(inFlightWhileReading).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+        server.verify();
+    }
+
+    @DisplayName("5xx 응답이나 타임아웃은, 한도를 줄이는 신호로 쓴다.")
+    @Test
+    void givenServerErrorAndTimeout_whenCalling_thenBacksOff() {
+        // Given
+        RestTemplate restTemplate = restTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(ARTICLES)).andRespond(withServerError());
+        server.expect(requestTo(ARTICLES)).andRespond(withException(new SocketTimeoutException("read timed out")));
+
+        // When
+        Throwable serverError = catchThrowable(() -> restTemplate.getForObject(ARTICLES, String.class));
+        int limitAfterServerError = limiter.getLimit();
+        Throwable timeout = catchThrowable(() -> restTemplate.getForObject(ARTICLES, String.class));
+
+        // Then
+        assertThat(serverError).isInstanceOf(HttpServerErrorException.class);
+        assertThat(timeout).isInstanceOf(ResourceAccessException.class);
+        assertThat(limitAfterServerError).isEqualTo(2);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+        server.verify();
+    }
+
+    @DisplayName("논블로킹 클라이언트에서 자리는 응답 본문을 다 읽을 때 한 번만 돌려주고, 연결 오류는 한도를 줄인다.")
+    @Test
+    void givenWebClientRequests_whenFiltering_thenReleasesOnBodyAndBacksOffOnConnectionError() {
+        // Given
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, ARTICLES).build();
+        WebClientRequestException connectionError = new WebClientRequestException(new SocketTimeoutException("connect timed out"), HttpMethod.GET, ARTICLES, new HttpHeaders());
+
+        // When
+        ClientResponse response = sut.filter(request, req -> Mono.just(ClientResponse.create(HttpStatus.OK).body("ok").build())).block();
+        int inFlightBeforeBody = limiter.getInFlight();
+        String body = response.bodyToMono(String.class).block();
+        int inFlightAfterBody = limiter.getInFlight();
+        Throwable t = catchThrowable(() -> sut.filter(request, req -> Mono.error(connectionError)).block());
+
+        // Then
+        assertThat(body).isEqualTo("ok");
+        assertThat(inFlightBeforeBody).isEqualTo(1);
+        assertThat(inFlightAfterBody).isZero();
+        assertThat(t).isSameAs(connectionError);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @DisplayName("논블로킹 클라이언트에서 응답 전에 구독이 취소되면, 자리만 돌려주고 한도는 그대로 둔다.")
+    @Test
+    void givenCancelledBeforeResponse_whenFiltering_thenReleasesWithoutAdjustingLimit() {
+        // Given
+        Disposable inFlight = sut.filter(ClientRequest.create(HttpMethod.GET, ARTICLES).build(), req -> Mono.never()).subscribe();
+        int inFlightBeforeCancel = limiter.getInFlight();
+
+        // When
+        inFlight.dispose();
+
+        // Then
+        assertThat(inFlightBeforeCancel).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    private RestTemplate restTemplate() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(sut);
+
+        return restTemplate;
+    }
+}
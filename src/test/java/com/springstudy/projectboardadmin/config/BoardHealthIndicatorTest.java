@@ -0,0 +1,68 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("게시판 상태 확인")
+class BoardHealthIndicatorTest {
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+
+    @DisplayName("게시판이 SLO 안에 정상 응답하면, UP 과 응답 시간을 보여준다.")
+    @Test
+    void givenFastBoard_whenCheckingHealth_thenUp() {
+        // Given
+        BoardHealthIndicator sut = new BoardHealthIndicator(restTemplate, projectProperties(Duration.ofSeconds(5)));
+        server.expect(requestTo("http://localhost:8080/api"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess());
+
+        // When
+        Health health = sut.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsKeys("latencyMs", "latencySloMs").containsEntry("status", 200);
+        server.verify();
+    }
+
+    @DisplayName("게시판이 오류를 응답하면, DOWN 이다.")
+    @Test
+    void givenFailingBoard_whenCheckingHealth_thenDown() {
+        // Given
+        BoardHealthIndicator sut = new BoardHealthIndicator(restTemplate, projectProperties(Duration.ofSeconds(5)));
+        server.expect(requestTo("http://localhost:8080/api"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When
+        Health health = sut.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsKey("error");
+        server.verify();
+    }
+
+    private static ProjectProperties projectProperties(Duration latencySlo) {
+        return new ProjectProperties(new ProjectProperties.Board(
+                "http://localhost:8080", 1, null, null, null, null, null, null, null, null, null, null, null,
+                new ProjectProperties.HealthCheck("/api", latencySlo), null
+        ), null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springstudy.projectboardadmin.dto.response.ArticleClientResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("게시판 API 호출 계측")
+class BoardMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("ID 가 다른 요청은, 같은 URI 템플릿의 호출 시간과 응답 크기로 기록한다.")
+    @Test
+    void givenRequestsWithDifferentIds_whenCalling_thenRecordsPerUriTemplate() {
+        // Given
+        RestTemplate restTemplate = restTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("http://localhost/api/articles/1"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://localhost/api/articles/2"))
+                .andRespond(withSuccess("{\"id\":22}", MediaType.APPLICATION_JSON));
+
+        // When
+        restTemplate.getForObject(URI.create("http://localhost/api/articles/1"), String.class);
+        restTemplate.getForObject(URI.create("http://localhost/api/articles/2"), String.class);
+
+        // Then
+        Timer timer = meterRegistry.get("board.client.requests")
+                .tags("method", "GET", "uri", "/api/articles/{id}", "status", "200", "outcome", "SUCCESS")
+                .timer();
+        DistributionSummary responseSize = meterRegistry.get("board.client.response.size")
+                .tags("uri", "/api/articles/{id}")
+                .summary();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(responseSize.count()).isEqualTo(2);
+        assertThat(responseSize.totalAmount()).isEqualTo(17);
+        server.verify();
+    }
+
+    @DisplayName("게시판 목록 응답은, 역직렬화 시간을 타입별로 기록한다.")
+    @Test
+    void givenListResponse_whenCalling_thenRecordsDeserializationTime() throws Exception {
+        // Given
+        RestTemplate restTemplate = restTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("http://localhost/api/articles?page=0"))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(ArticleClientResponse.empty()), MediaType.APPLICATION_JSON));
+
+        // When
+        ArticleClientResponse response = restTemplate.getForObject(URI.create("http://localhost/api/articles?page=0"), ArticleClientResponse.class);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(meterRegistry.get("board.client.deserialization").tag("type", "ArticleClientResponse").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.client.requests").tag("uri", "/api/articles").timer().count()).isEqualTo(1);
+        server.verify();
+    }
+
+    @DisplayName("논블로킹 클라이언트의 요청도, 같은 URI 템플릿의 호출 시간, 응답 크기, 역직렬화 시간으로 기록한다.")
+    @Test
+    void givenWebClientRequest_whenCalling_thenRecordsSameMetrics() throws Exception {
+        // Given
+        String body = objectMapper.writeValueAsString(ArticleClientResponse.empty());
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build()))
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonDecoder(new TimedJackson2JsonDecoder(objectMapper, meterRegistry)))
+                .filter(new BoardMetricsInterceptor(meterRegistry))
+                .build();
+
+        // When
+        ArticleClientResponse response = webClient.get()
+                .uri(URI.create("http://localhost/api/articles?page=0"))
+                .retrieve()
+                .bodyToMono(ArticleClientResponse.class)
+                .block();
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(meterRegistry.get("board.client.requests")
+                .tags("method", "GET", "uri", "/api/articles", "status", "200", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.client.response.size").tag("uri", "/api/articles").summary().totalAmount())
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(meterRegistry.get("board.client.deserialization").tag("type", "ArticleClientResponse").timer().count()).isEqualTo(1);
+    }
+
+    private RestTemplate restTemplate() {
+        RestTemplate restTemplate = new RestTemplate(List.of(
+                new StringHttpMessageConverter(),
+                new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry)
+        ));
+        restTemplate.getInterceptors().add(new BoardMetricsInterceptor(meterRegistry));
+
+        return restTemplate;
+    }
+}
@@ -0,0 +1,191 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.client.ExpectedCount.twice;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("게시판 API 장애 격리")
+class BoardResilienceInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CircuitBreaker circuitBreaker;
+    private BulkheadRegistry bulkheadRegistry;
+    private BoardResilienceInterceptor sut;
+
+    @BeforeEach
+    void setUp() {
+        ProjectProperties projectProperties = new ProjectProperties(new ProjectProperties.Board(
+                "http://localhost", 500, null, null, null, null, null, null,
+                new ProjectProperties.Resilience(
+                        new ProjectProperties.CircuitBreaker(50, 80, Duration.ofSeconds(2), 2, 2, Duration.ofSeconds(30), 1),
+                        new ProjectProperties.Bulkhead(1, Duration.ZERO),
+                        null,
+                        null
+                ),
+                null, null, null, null, null, null
+        ), null);
+        ResilienceConfig resilienceConfig = new ResilienceConfig();
+        circuitBreaker = resilienceConfig.boardCircuitBreaker(resilienceConfig.boardCircuitBreakerRegistry(projectProperties, meterRegistry), meterRegistry);
+        bulkheadRegistry = resilienceConfig.boardBulkheadRegistry(projectProperties, meterRegistry);
+        sut = resilienceConfig.boardResilienceInterceptor(circuitBreaker, bulkheadRegistry);
+    }
+
+    @DisplayName("5xx 응답이 이어지면, 실패로 세어 서킷을 열고 상태 전이를 센다.")
+    @Test
+    void givenServerErrors_whenCalling_thenOpensCircuitAndCountsTransition() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(sut);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(twice(), requestTo("http://localhost/api/articles/1")).andRespond(withServerError());
+
+        // When
+        Throwable first = catchThrowable(() -> restTemplate.getForObject(URI.create("http://localhost/api/articles/1"), String.class));
+        Throwable second = catchThrowable(() -> restTemplate.getForObject(URI.create("http://localhost/api/articles/1"), String.class));
+        Throwable third = catchThrowable(() -> restTemplate.getForObject(URI.create("http://localhost/api/articles/1"), String.class));
+
+        // Then
+        assertThat(first).isInstanceOf(HttpServerErrorException.class);
+        assertThat(second).isInstanceOf(HttpServerErrorException.class);
+        assertThat(third).isInstanceOf(CallNotPermittedException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(2);
+        assertThat(meterRegistry.get("board.circuitbreaker.transitions")
+                .tags("name", ResilienceConfig.BOARD_CIRCUIT_BREAKER, "from", "CLOSED", "to", "OPEN")
+                .counter().count()).isEqualTo(1);
+        server.verify();
+    }
+
+    @DisplayName("논블로킹 클라이언트의 5xx 응답도, 실패로 세어 서킷을 연다.")
+    @Test
+    void givenServerErrorsOnWebClient_whenFiltering_thenOpensCircuit() {
+        // Given
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/articles")).build();
+
+        // When
+        sut.filter(request, req -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())).flatMap(ClientResponse::releaseBody).block();
+        sut.filter(request, req -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())).flatMap(ClientResponse::releaseBody).block();
+        Throwable rejected = catchThrowable(() -> sut.filter(request, req -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block());
+
+        // Then
+        assertThat(rejected).isInstanceOf(CallNotPermittedException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(bulkheadRegistry.bulkhead("GET /api/articles").getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @DisplayName("벌크헤드는 URI 템플릿별로 따로 두어, 한 엔드포인트가 가득 차도 다른 엔드포인트는 호출하고 거절은 엔드포인트별로 센다.")
+    @Test
+    void givenBusyEndpoint_whenCallingSameAndOtherEndpoints_thenRejectsOnlySameTemplate() {
+        // Given
+        Disposable inFlight = sut.filter(request("http://localhost/api/articles/1"), req -> Mono.never()).subscribe();
+
+        // When
+        Throwable sameTemplate = catchThrowable(() ->
+                sut.filter(request("http://localhost/api/articles/2"), req -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block()
+        );
+        ClientResponse otherTemplate = sut.filter(request("http://localhost/api/article-comments/2"), req -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+        inFlight.dispose();
+        ClientResponse afterRelease = sut.filter(request("http://localhost/api/articles/2"), req -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+
+        // Then
+        assertThat(sameTemplate).isInstanceOf(BulkheadFullException.class);
+        assertThat(otherTemplate).isNotNull();
+        assertThat(afterRelease).isNotNull();
+        assertThat(bulkheadRegistry.getAllBulkheads())
+                .extracting(Bulkhead::getName)
+                .containsExactlyInAnyOrder("GET /api/articles/{id}", "GET /api/article-comments/{id}");
+        assertThat(meterRegistry.get("board.bulkhead.rejected").tag("endpoint", "GET /api/articles/{id}").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("board.bulkhead.rejected").tag("endpoint", "GET /api/article-comments/{id}").counter()).isNull();
+    }
+
+    @DisplayName("응답을 받은 요청은, 벌크헤드 자리를 돌려주고 성공으로 센다.")
+    @Test
+    void givenSuccessfulResponse_whenCalling_thenReleasesBulkheadAndRecordsSuccess() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(sut);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("http://localhost/api/articles/1")).andRespond(withSuccess());
+
+        // When
+        restTemplate.getForObject(URI.create("http://localhost/api/articles/1"), String.class);
+
+        // Then
+        assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+        assertThat(bulkheadRegistry.bulkhead("GET /api/articles/{id}").getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        server.verify();
+    }
+
+    @DisplayName("벌크헤드 자리와 호출 결과는 응답 헤더가 아니라, 본문을 읽고 응답을 닫을 때 돌려주고 기록한다.")
+    @Test
+    void givenResponseBeingRead_whenCalling_thenHoldsBulkheadAndRecordsOnClose() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(sut);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("http://localhost/api/articles/1")).andRespond(withSuccess());
+
+        // When
+        Integer availableWhileReading = restTemplate.execute(URI.create("http://localhost/api/articles/1"), HttpMethod.GET, null, response -> {
+            assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+            return bulkheadRegistry.bulkhead("GET /api/articles/{id}").getMetrics().getAvailableConcurrentCalls();
+        });
+
+        // Then
+        assertThat(availableWhileReading).isZero();
+        assertThat(bulkheadRegistry.bulkhead("GET /api/articles/{id}").getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+        server.verify();
+    }
+
+    @DisplayName("논블로킹 클라이언트에서도, 벌크헤드 자리와 호출 결과는 응답 본문을 다 읽을 때 돌려주고 기록한다.")
+    @Test
+    void givenWebClientResponse_whenReadingBody_thenReleasesBulkheadAndRecordsAfterBody() {
+        // Given
+        ClientRequest request = request("http://localhost/api/articles/1");
+        ClientResponse response = sut.filter(request, req -> Mono.just(ClientResponse.create(HttpStatus.OK).body("ok").build())).block();
+        int availableBeforeBody = bulkheadRegistry.bulkhead("GET /api/articles/{id}").getMetrics().getAvailableConcurrentCalls();
+        int bufferedCallsBeforeBody = circuitBreaker.getMetrics().getNumberOfBufferedCalls();
+
+        // When
+        String body = response.bodyToMono(String.class).block();
+
+        // Then
+        assertThat(body).isEqualTo("ok");
+        assertThat(availableBeforeBody).isZero();
+        assertThat(bufferedCallsBeforeBody).isZero();
+        assertThat(bulkheadRegistry.bulkhead("GET /api/articles/{id}").getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+    }
+
+    private static ClientRequest request(String url) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(url)).build();
+    }
+}
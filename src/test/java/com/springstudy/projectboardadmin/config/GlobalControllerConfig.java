@@ -1,6 +1,8 @@
 package com.springstudy.projectboardadmin.config;
 
+import com.springstudy.projectboardadmin.service.UniqueAdminService;
 import com.springstudy.projectboardadmin.service.VisitCounterService;
+import com.springstudy.projectboardadmin.service.VisitStatisticsService;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.event.annotation.BeforeTestMethod;
@@ -11,6 +13,8 @@ import static org.mockito.BDDMockito.given;
 public class GlobalControllerConfig {
 
     @MockBean private VisitCounterService visitCounterService;
+    @MockBean private VisitStatisticsService visitStatisticsService;
+    @MockBean private UniqueAdminService uniqueAdminService;
 
     @BeforeTestMethod
     public void securitySetup() {
@@ -0,0 +1,103 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.ArticleCommentManagementService;
+import com.springstudy.projectboardadmin.service.ArticleManagementService;
+import com.springstudy.projectboardadmin.service.UserAccountManagementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.Pageable;
+import org.thymeleaf.ITemplateEngine;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("시작 직후 예열")
+@ExtendWith(MockitoExtension.class)
+class StartupWarmUpTest {
+
+    @Mock private ObjectProvider<ITemplateEngine> templateEngine;
+    @Mock private ArticleManagementService articleManagementService;
+    @Mock private ArticleCommentManagementService articleCommentManagementService;
+    @Mock private UserAccountManagementService userAccountManagementService;
+    @Mock private BoardHealthIndicator boardHealthIndicator;
+
+    @DisplayName("예열을 끄면, 처음부터 UP 이다.")
+    @Test
+    void givenWarmUpDisabled_whenCheckingHealth_thenUp() {
+        // Given
+        StartupWarmUp sut = startupWarmUp(new ProjectProperties.WarmUp(false, 1, Duration.ofMillis(1), Duration.ofSeconds(1)));
+
+        // When
+        Health health = sut.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        then(boardHealthIndicator).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("예열이 끝나기 전에는 DOWN 이고, 목록을 한 번씩 요청한 뒤 게시판이 UP 이 되면 UP 이 된다.")
+    @Test
+    void givenBoardBecomesHealthy_whenWarmingUp_thenUpAfterListsAndBoardHealth() {
+        // Given
+        StartupWarmUp sut = startupWarmUp(new ProjectProperties.WarmUp(true, 1, Duration.ofMillis(1), Duration.ofSeconds(10)));
+        given(templateEngine.getIfAvailable()).willReturn(null);
+        given(boardHealthIndicator.getHealth(false)).willReturn(Health.down().build(), Health.up().build());
+        Status before = sut.health().getStatus();
+
+        // When
+        sut.warmUp();
+
+        // Then
+        assertThat(before).isEqualTo(Status.DOWN);
+        assertThat(sut.health().getStatus()).isEqualTo(Status.UP);
+        then(articleManagementService).should().getArticles(isNull(), any(Pageable.class));
+        then(articleCommentManagementService).should().getArticleComments(isNull(), any(Pageable.class));
+        then(userAccountManagementService).should().getUserAccounts(any(Pageable.class));
+        then(boardHealthIndicator).should(times(2)).getHealth(false);
+    }
+
+    @DisplayName("게시판 목록 요청이 실패하고 게시판이 계속 DOWN 이어도, 최대 대기 시간이 지나면 UP 이 된다.")
+    @Test
+    void givenBoardStaysDown_whenWarmingUp_thenUpAfterMaxWait() {
+        // Given
+        StartupWarmUp sut = startupWarmUp(new ProjectProperties.WarmUp(true, 1, Duration.ofMillis(5), Duration.ofMillis(50)));
+        given(templateEngine.getIfAvailable()).willReturn(null);
+        given(articleManagementService.getArticles(any(), any(Pageable.class))).willThrow(new IllegalStateException("board down"));
+        given(boardHealthIndicator.getHealth(false)).willReturn(Health.down().build());
+
+        // When
+        sut.warmUp();
+
+        // Then
+        assertThat(sut.health().getStatus()).isEqualTo(Status.UP);
+        then(articleCommentManagementService).should().getArticleComments(isNull(), any(Pageable.class));
+        then(userAccountManagementService).should().getUserAccounts(any(Pageable.class));
+    }
+
+    private StartupWarmUp startupWarmUp(ProjectProperties.WarmUp warmUp) {
+        ProjectProperties projectProperties = new ProjectProperties(
+                new ProjectProperties.Board("http://localhost:8080", 500, null, null, null, null, null, null, null, null, null, null, null, null, warmUp),
+                null
+        );
+
+        return new StartupWarmUp(
+                projectProperties,
+                new ObjectMapper().findAndRegisterModules(),
+                templateEngine,
+                articleManagementService,
+                articleCommentManagementService,
+                userAccountManagementService,
+                boardHealthIndicator
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.springstudy.projectboardadmin.config;
+
+import com.springstudy.projectboardadmin.controller.ArticleManagementController;
+import com.springstudy.projectboardadmin.domain.constant.RoleType;
+import com.springstudy.projectboardadmin.dto.security.BoardAdminPrincipal;
+import com.springstudy.projectboardadmin.service.ArticleManagementService;
+import com.springstudy.projectboardadmin.service.UniqueAdminService;
+import com.springstudy.projectboardadmin.service.VisitCounterService;
+import com.springstudy.projectboardadmin.service.VisitStatisticsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("화면 방문 수 집계")
+@Import({TestSecurityConfig.class, GlobalControllerConfig.class})
+@WebMvcTest(ArticleManagementController.class)
+class VisitCounterInterceptorTest {
+
+    private static final BoardAdminPrincipal ADMIN = BoardAdminPrincipal.of(
+            "uno", "pw", Set.of(RoleType.MANAGER), "uno@mail.com", "Uno", null
+    );
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleManagementService articleManagementService;
+    @Autowired private VisitCounterService visitCounterService;
+    @Autowired private VisitStatisticsService visitStatisticsService;
+    @Autowired private UniqueAdminService uniqueAdminService;
+
+    VisitCounterInterceptorTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("화면을 그리는 요청은, 방문 수와 방문한 어드민, 처리 시간을 남기고 화면에 방문 수를 넣는다.")
+    @Test
+    void givenViewRequest_whenRendering_thenCountsVisit() throws Exception {
+        // Given
+        given(visitCounterService.visitCount()).willReturn(42L);
+        given(uniqueAdminService.uniqueAdminsToday()).willReturn(3L);
+        given(uniqueAdminService.uniqueAdminsThisWeek()).willReturn(5L);
+
+        // When
+        mvc.perform(get("/management/articles").with(user(ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute(VisitCounterInterceptor.VISIT_COUNT, 42L))
+                .andExpect(model().attribute(VisitCounterInterceptor.UNIQUE_ADMINS_TODAY, 3L))
+                .andExpect(model().attribute(VisitCounterInterceptor.UNIQUE_ADMINS_THIS_WEEK, 5L));
+
+        // Then
+        then(visitCounterService).should().increment("/management/articles");
+        then(uniqueAdminService).should().visit("/management/articles", "uno");
+        then(visitStatisticsService).should().record(eq("/management/articles"), anyLong());
+    }
+
+    @DisplayName("@ResponseBody 요청은, 방문 수를 세지 않는다.")
+    @Test
+    void givenResponseBodyRequest_whenHandling_thenDoesNotCountVisit() throws Exception {
+        // Given
+        given(articleManagementService.getArticles(any(), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+        // When
+        MvcResult mvcResult = mvc.perform(
+                get("/management/articles/datatables")
+                        .param("draw", "1")
+                        .param("start", "0")
+                        .param("length", "10")
+                        .with(user(ADMIN))
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // Then
+        then(visitCounterService).should(never()).increment(any());
+        then(uniqueAdminService).should(never()).visit(any(), any());
+        then(visitStatisticsService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("리다이렉트로 끝나는 요청은, 방문 수를 세지 않는다.")
+    @Test
+    void givenRedirectingRequest_whenHandling_thenDoesNotCountVisit() throws Exception {
+        // Given
+        willDoNothing().given(articleManagementService).deleteArticle(1L);
+
+        // When
+        MvcResult mvcResult = mvc.perform(
+                post("/management/articles/1")
+                        .with(user(ADMIN))
+                        .with(csrf())
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().is3xxRedirection());
+
+        // Then
+        then(visitCounterService).should(never()).increment(any());
+        then(uniqueAdminService).should(never()).visit(any(), any());
+        then(visitStatisticsService).shouldHaveNoInteractions();
+    }
+}
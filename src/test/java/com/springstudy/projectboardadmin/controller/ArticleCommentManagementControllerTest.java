@@ -3,6 +3,7 @@ package com.springstudy.projectboardadmin.controller;
 import com.springstudy.projectboardadmin.config.GlobalControllerConfig;
 import com.springstudy.projectboardadmin.config.TestSecurityConfig;
 import com.springstudy.projectboardadmin.dto.ArticleCommentDto;
+import com.springstudy.projectboardadmin.dto.ArticleCommentSummaryDto;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 import com.springstudy.projectboardadmin.service.ArticleCommentManagementService;
 import org.junit.jupiter.api.DisplayName;
@@ -11,15 +12,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,19 +48,52 @@ class ArticleCommentManagementControllerTest {
     @Test
     void givenNothing_whenRequestingArticleCommentManagementView_thenReturnsArticleCommentManagementView() throws Exception {
         // Given
-        given(articleCommentManagementService.getArticleComments()).willReturn(List.of());
 
         // When
         mvc.perform(get("/management/article-comments"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
-                .andExpect(view().name("management/article-comments"))
-                .andExpect(model().attribute("comments", List.of()));
-        then(articleCommentManagementService).should().getArticleComments();
+                .andExpect(view().name("management/article-comments"));
+        then(articleCommentManagementService).shouldHaveNoInteractions();
         // Then
 
     }
 
+    @WithMockUser(username = "tester", roles = "USER")
+    @DisplayName("[data][GET] 댓글 목록 (DataTables 서버 사이드) - 검색어가 있으면, 걸러내기 전 전체 건수를 따로 돌려준다.")
+    @Test
+    void givenDataTablesParameters_whenCommentsDataTables_thenReturnsRequestedPage() throws Exception {
+        // Given
+        ArticleCommentSummaryDto articleCommentDto = ArticleCommentSummaryDto.of(1L, createUserAccountDto(), "content", LocalDateTime.now());
+        given(articleCommentManagementService.getArticleComments(eq("content"), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(articleCommentDto), PageRequest.of(0, 10), 1));
+        given(articleCommentManagementService.getArticleComments(isNull(), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(articleCommentDto), PageRequest.of(0, 1), 5));
+
+        // When
+        MvcResult mvcResult = mvc.perform(
+                get("/management/article-comments/datatables")
+                        .param("draw", "3")
+                        .param("start", "0")
+                        .param("length", "10")
+                        .param("search[value]", "content")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.draw").value(3))
+                .andExpect(jsonPath("$.recordsTotal").value(5))
+                .andExpect(jsonPath("$.recordsFiltered").value(1))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].content").value(articleCommentDto.content()));
+
+        // Then
+        then(articleCommentManagementService).should().getArticleComments(eq("content"), any(Pageable.class));
+        then(articleCommentManagementService).should().getArticleComments(isNull(), any(Pageable.class));
+    }
+
     @WithMockUser(username = "tester", roles = "USER")
     @DisplayName("[data][GET] 댓글 1개 - 정상 호출")
     @Test
@@ -65,7 +104,10 @@ class ArticleCommentManagementControllerTest {
         given(articleCommentManagementService.getArticleComment(articleCommentId)).willReturn(articleCommentDto);
 
         // When
-        mvc.perform(get("/management/article-comments/" + articleCommentId))
+        MvcResult mvcResult = mvc.perform(get("/management/article-comments/" + articleCommentId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(articleCommentId))
@@ -85,10 +127,13 @@ class ArticleCommentManagementControllerTest {
         willDoNothing().given(articleCommentManagementService).deleteArticleComment(articleCommentId);
 
         // When
-        mvc.perform(
+        MvcResult mvcResult = mvc.perform(
                         post("/management/article-comments/" + articleCommentId)
                                 .with(csrf())
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name("redirect:/management/article-comments"))
                 .andExpect(redirectedUrl("/management/article-comments"));
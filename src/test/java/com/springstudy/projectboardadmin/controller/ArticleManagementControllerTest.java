@@ -3,23 +3,35 @@ package com.springstudy.projectboardadmin.controller;
 import com.springstudy.projectboardadmin.config.GlobalControllerConfig;
 import com.springstudy.projectboardadmin.config.TestSecurityConfig;
 import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.ArticleSummaryDto;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.dto.response.BulkDeleteResponse;
 import com.springstudy.projectboardadmin.service.ArticleManagementService;
+import com.springstudy.projectboardadmin.service.ReactiveArticleManagementService;
+import com.springstudy.projectboardadmin.service.support.TooManyIdsException;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,20 +54,79 @@ class ArticleManagementControllerTest {
     @Test
     void givenNothing_whenRequestingArticleManagementView_thenReturnsArticleManagementView() throws Exception {
         // Given
-        given(articleManagementService.getArticles()).willReturn(List.of());
 
         // When
         mvc.perform(get("/management/articles"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
-                .andExpect(view().name("management/articles"))
-                .andExpect(model().attribute("articles", List.of()));
-        then(articleManagementService).should().getArticles();
+                .andExpect(view().name("management/articles"));
+        then(articleManagementService).shouldHaveNoInteractions();
 
         // Then
 
     }
 
+    @WithMockUser(username = "tester", roles = "USER")
+    @DisplayName("[data][GET] 게시글 목록 (DataTables 서버 사이드) - 검색어가 있으면, 걸러내기 전 전체 건수를 따로 돌려준다.")
+    @Test
+    void givenDataTablesParameters_whenArticlesDataTables_thenReturnsRequestedPage() throws Exception {
+        // Given
+        ArticleSummaryDto articleDto = ArticleSummaryDto.of(1L, "title", createUserAccountDto(), LocalDateTime.now());
+        given(articleManagementService.getArticles(eq("title"), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(articleDto), PageRequest.of(0, 10), 1));
+        given(articleManagementService.getArticles(isNull(), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(articleDto), PageRequest.of(0, 1), 5));
+
+        // When
+        MvcResult mvcResult = mvc.perform(
+                get("/management/articles/datatables")
+                        .param("draw", "3")
+                        .param("start", "0")
+                        .param("length", "10")
+                        .param("search[value]", "title")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.draw").value(3))
+                .andExpect(jsonPath("$.recordsTotal").value(5))
+                .andExpect(jsonPath("$.recordsFiltered").value(1))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].title").value(articleDto.title()))
+                .andExpect(jsonPath("$.data[0].content").doesNotExist());
+
+        // Then
+        then(articleManagementService).should().getArticles(eq("title"), any(Pageable.class));
+        then(articleManagementService).should().getArticles(isNull(), any(Pageable.class));
+    }
+
+    @WithMockUser(username = "tester", roles = "USER")
+    @DisplayName("[data][GET] 게시글 목록 (DataTables 서버 사이드) - 정렬할 수 없는 컬럼이면, 정렬하지 않고 조회한다.")
+    @Test
+    void givenUnknownOrderColumn_whenArticlesDataTables_thenRequestsUnsortedPage() throws Exception {
+        // Given
+        given(articleManagementService.getArticles(any(), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+        // When
+        MvcResult mvcResult = mvc.perform(
+                get("/management/articles/datatables")
+                        .param("draw", "1")
+                        .param("order[0][column]", "0")
+                        .param("order[0][dir]", "desc")
+                        .param("columns[0][data]", "password")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // Then
+        then(articleManagementService).should().getArticles(any(), argThat(pageable -> pageable.getSort().isUnsorted()));
+    }
+
     @WithMockUser(username = "tester", roles = "USER")
     @DisplayName("[data][GET] 게시글 1개 - 정상 호출")
     @Test
@@ -66,7 +137,10 @@ class ArticleManagementControllerTest {
         given(articleManagementService.getArticle(articleId)).willReturn(articleDto);
 
         // When
-        mvc.perform(get("/management/articles/" + articleId))
+        MvcResult mvcResult = mvc.perform(get("/management/articles/" + articleId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(articleId))
@@ -79,6 +153,41 @@ class ArticleManagementControllerTest {
 
     }
 
+    @WithMockUser(username = "tester", roles = "USER")
+    @DisplayName("[data][GET] 게시글 여러 개 (ids) - 정상 호출")
+    @Test
+    void givenArticleIds_whenRequestingArticlesByIds_thenReturnsArticles() throws Exception {
+        // Given
+        ArticleDto articleDto = createArticleDto("title", "content");
+        given(articleManagementService.getArticlesByIds(List.of(1L, 2L))).willReturn(List.of(articleDto));
+
+        // When
+        mvc.perform(get("/management/articles").queryParam("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(articleDto.id()))
+                .andExpect(jsonPath("$[0].content").value(articleDto.content()));
+
+        // Then
+        then(articleManagementService).should().getArticlesByIds(List.of(1L, 2L));
+    }
+
+    @WithMockUser(username = "tester", roles = "USER")
+    @DisplayName("[data][GET] 게시글 여러 개 (ids) - 한 번에 조회할 수 있는 건수를 넘으면, 400 으로 응답한다.")
+    @Test
+    void givenTooManyArticleIds_whenRequestingArticlesByIds_thenReturnsBadRequest() throws Exception {
+        // Given
+        given(articleManagementService.getArticlesByIds(List.of(1L, 2L))).willThrow(new TooManyIdsException("조회할", 1, 2));
+
+        // When
+        mvc.perform(get("/management/articles").queryParam("ids", "1,2"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        then(articleManagementService).should().getArticlesByIds(List.of(1L, 2L));
+    }
+
     @WithMockUser(username = "tester", roles = "MANAGER")
     @DisplayName("[view][POST] 게시글 삭제 - 정상 호출")
     @Test
@@ -88,10 +197,13 @@ class ArticleManagementControllerTest {
         willDoNothing().given(articleManagementService).deleteArticle(articleId);
 
         // When
-        mvc.perform(
+        MvcResult mvcResult = mvc.perform(
                 post("/management/articles/" + articleId)
                         .with(csrf())
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name("redirect:/management/articles"))
                 .andExpect(redirectedUrl("/management/articles"));
@@ -100,6 +212,92 @@ class ArticleManagementControllerTest {
 
     }
 
+    @WithMockUser(username = "tester", roles = "MANAGER")
+    @DisplayName("[data][DELETE] 게시글 여러 건 삭제 - 정상 호출")
+    @Test
+    void givenArticleIds_whenRequestingBulkDeletion_thenReturnsResultPerId() throws Exception {
+        // Given
+        List<Long> articleIds = List.of(1L, 2L);
+        given(articleManagementService.deleteArticles(articleIds)).willReturn(BulkDeleteResponse.of(List.of(
+                BulkDeleteResponse.Result.deleted(1L),
+                BulkDeleteResponse.Result.notFound(2L)
+        )));
+
+        // When
+        mvc.perform(
+                delete("/management/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]")
+                        .with(csrf())
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.deleted").value(1))
+                .andExpect(jsonPath("$.results[1].id").value(2))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+
+        // Then
+        then(articleManagementService).should().deleteArticles(articleIds);
+    }
+
+    @WithMockUser(username = "tester", roles = "MANAGER")
+    @DisplayName("[data][DELETE] 게시글 여러 건 삭제 - 한 번에 삭제할 수 있는 건수를 넘으면, 400 으로 응답한다.")
+    @Test
+    void givenTooManyArticleIds_whenRequestingBulkDeletion_thenReturnsBadRequest() throws Exception {
+        // Given
+        List<Long> articleIds = List.of(1L, 2L);
+        given(articleManagementService.deleteArticles(articleIds)).willThrow(new TooManyIdsException("삭제할", 1, 2));
+
+        // When
+        mvc.perform(
+                delete("/management/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]")
+                        .with(csrf())
+                )
+                .andExpect(status().isBadRequest());
+
+        // Then
+        then(articleManagementService).should().deleteArticles(articleIds);
+    }
+
+    @DisplayName("논블로킹 게시판 클라이언트를 쓰면")
+    @Nested
+    class ReactiveClientTest {
+
+        private final MockMvc mvc;
+
+        @MockBean private ReactiveArticleManagementService reactiveArticleManagementService;
+
+        ReactiveClientTest(@Autowired MockMvc mvc) {
+            this.mvc = mvc;
+        }
+
+        @WithMockUser(username = "tester", roles = "USER")
+        @DisplayName("[data][GET] 게시글 1개 - 논블로킹 서비스로 조회한다.")
+        @Test
+        void givenArticleId_whenRequestingArticle_thenReturnsArticleFromReactiveService() throws Exception {
+            // Given
+            Long articleId = 1L;
+            ArticleDto articleDto = createArticleDto("title", "content");
+            given(reactiveArticleManagementService.getArticle(articleId)).willReturn(Mono.just(articleDto));
+
+            // When
+            MvcResult mvcResult = mvc.perform(get("/management/articles/" + articleId))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(articleId))
+                    .andExpect(jsonPath("$.title").value(articleDto.title()));
+
+            // Then
+            then(reactiveArticleManagementService).should().getArticle(articleId);
+        }
+
+    }
+
     private ArticleDto createArticleDto(String title, String content) {
         return ArticleDto.of(
                 1L,
@@ -4,20 +4,27 @@ import com.springstudy.projectboardadmin.config.GlobalControllerConfig;
 import com.springstudy.projectboardadmin.config.TestSecurityConfig;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 import com.springstudy.projectboardadmin.service.UserAccountManagementService;
+import com.springstudy.projectboardadmin.service.support.TooManyIdsException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
 
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,17 +47,45 @@ class UserAccountManagementControllerTest {
     @Test
     void givenNothing_whenRequestingUserAccountManagementView_thenReturnsUserAccountManagementView() throws Exception {
         // Given
-        given(userAccountManagementService.getUserAccounts()).willReturn(List.of());
 
         // When
         mvc.perform(get("/management/user-accounts"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
-                .andExpect(view().name("management/user-accounts"))
-                .andExpect(model().attribute("userAccounts", List.of()));
+                .andExpect(view().name("management/user-accounts"));
 
         // Then
-        then(userAccountManagementService).should().getUserAccounts();
+        then(userAccountManagementService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser(username = "tester", roles = "USER")
+    @DisplayName("[data][GET] 회원 목록 (DataTables 서버 사이드) - 정상 호출")
+    @Test
+    void givenDataTablesParameters_whenUserAccountsDataTables_thenReturnsRequestedPage() throws Exception {
+        // Given
+        UserAccountDto userAccountDto = createUserAccountDto("ihj", "Ihj");
+        given(userAccountManagementService.getUserAccounts(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(userAccountDto), PageRequest.of(0, 10), 1));
+
+        // When
+        MvcResult mvcResult = mvc.perform(
+                get("/management/user-accounts/datatables")
+                        .param("draw", "3")
+                        .param("start", "0")
+                        .param("length", "10")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.draw").value(3))
+                .andExpect(jsonPath("$.recordsTotal").value(1))
+                .andExpect(jsonPath("$.recordsFiltered").value(1))
+                .andExpect(jsonPath("$.data[0].userId").value(userAccountDto.userId()));
+
+        // Then
+        then(userAccountManagementService).should().getUserAccounts(any(Pageable.class));
     }
 
     @WithMockUser(username = "tester", roles = "USER")
@@ -63,7 +98,10 @@ class UserAccountManagementControllerTest {
         given(userAccountManagementService.getUserAccount(userId)).willReturn(userAccountDto);
 
         // When
-        mvc.perform(get("/management/user-accounts/" + userId))
+        MvcResult mvcResult = mvc.perform(get("/management/user-accounts/" + userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.userId").value(userId))
@@ -82,10 +120,13 @@ class UserAccountManagementControllerTest {
         willDoNothing().given(userAccountManagementService).deleteUserAccount(userId);
 
         // When
-        mvc.perform(
+        MvcResult mvcResult = mvc.perform(
                         post("/management/user-accounts/" + userId)
                                 .with(csrf())
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name("redirect:/management/user-accounts"))
                 .andExpect(redirectedUrl("/management/user-accounts"));
@@ -94,6 +135,50 @@ class UserAccountManagementControllerTest {
         then(userAccountManagementService).should().deleteUserAccount(userId);
     }
 
+    @WithMockUser(username = "tester", roles = "MANAGER")
+    @DisplayName("[view][POST] 회원 삭제 - 여러 건 삭제와 이름이 같은 회원 ID 도, 그 회원 한 명만 삭제한다.")
+    @Test
+    void givenUserIdNamedLikeBulkDeletion_whenRequestingDeletion_thenDeletesOnlyThatUser() throws Exception {
+        // Given
+        String userId = "bulk-delete";
+        willDoNothing().given(userAccountManagementService).deleteUserAccount(userId);
+
+        // When
+        MvcResult mvcResult = mvc.perform(
+                        post("/management/user-accounts/" + userId)
+                                .with(csrf())
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().is3xxRedirection());
+
+        // Then
+        then(userAccountManagementService).should().deleteUserAccount(userId);
+        then(userAccountManagementService).should(never()).deleteUserAccounts(any());
+    }
+
+    @WithMockUser(username = "tester", roles = "MANAGER")
+    @DisplayName("[data][DELETE] 회원 여러 건 삭제 - 한 번에 삭제할 수 있는 건수를 넘으면, 400 으로 응답한다.")
+    @Test
+    void givenTooManyUserIds_whenRequestingBulkDeletion_thenReturnsBadRequest() throws Exception {
+        // Given
+        List<String> userIds = List.of("uno", "dos");
+        given(userAccountManagementService.deleteUserAccounts(userIds)).willThrow(new TooManyIdsException("삭제할", 1, 2));
+
+        // When
+        mvc.perform(
+                        delete("/management/user-accounts")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[\"uno\", \"dos\"]")
+                                .with(csrf())
+                )
+                .andExpect(status().isBadRequest());
+
+        // Then
+        then(userAccountManagementService).should().deleteUserAccounts(userIds);
+    }
+
     private UserAccountDto createUserAccountDto(String userId, String nickname) {
         return UserAccountDto.of(
                 userId,
@@ -1,18 +1,31 @@
 package com.springstudy.projectboardadmin.repository;
 
 import com.springstudy.projectboardadmin.domain.AdminAccount;
+import com.springstudy.projectboardadmin.domain.BoardArticle;
+import com.springstudy.projectboardadmin.domain.VisitCount;
 import com.springstudy.projectboardadmin.domain.constant.RoleType;
+import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.BoardMirrorService;
+import com.springstudy.projectboardadmin.service.VisitCountStore;
+import com.springstudy.projectboardadmin.service.VisitCounterService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.jdbc.Sql;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -24,9 +37,29 @@ import static org.assertj.core.api.Assertions.*;
 class JpaRepositoryTest {
 
     private final AdminAccountRepository adminAccountRepository;
-
-    public JpaRepositoryTest(@Autowired AdminAccountRepository adminAccountRepository) {
+    private final VisitCountRepository visitCountRepository;
+    private final BoardArticleRepository boardArticleRepository;
+    private final BoardArticleCommentRepository boardArticleCommentRepository;
+    private final BoardUserAccountRepository boardUserAccountRepository;
+    private final BoardSyncWatermarkRepository boardSyncWatermarkRepository;
+    private final TestEntityManager entityManager;
+
+    public JpaRepositoryTest(
+            @Autowired AdminAccountRepository adminAccountRepository,
+            @Autowired VisitCountRepository visitCountRepository,
+            @Autowired BoardArticleRepository boardArticleRepository,
+            @Autowired BoardArticleCommentRepository boardArticleCommentRepository,
+            @Autowired BoardUserAccountRepository boardUserAccountRepository,
+            @Autowired BoardSyncWatermarkRepository boardSyncWatermarkRepository,
+            @Autowired TestEntityManager entityManager
+    ) {
         this.adminAccountRepository = adminAccountRepository;
+        this.visitCountRepository = visitCountRepository;
+        this.boardArticleRepository = boardArticleRepository;
+        this.boardArticleCommentRepository = boardArticleCommentRepository;
+        this.boardUserAccountRepository = boardUserAccountRepository;
+        this.boardSyncWatermarkRepository = boardSyncWatermarkRepository;
+        this.entityManager = entityManager;
     }
 
     @DisplayName("회원 정보 select 테스트")
@@ -43,6 +76,19 @@ class JpaRepositoryTest {
                 .hasSize(4);
     }
 
+    @DisplayName("초기 데이터 스크립트를 다시 실행해도, 회원 정보가 늘어나지 않는다.")
+    @Sql("/data.sql")
+    @Test
+    void givenInitialDataAlreadyLoaded_whenRunningScriptAgain_thenKeepsAdminAccounts() {
+        // Given
+
+        // When
+        List<AdminAccount> adminAccounts = adminAccountRepository.findAll();
+
+        // Then
+        assertThat(adminAccounts).hasSize(4);
+    }
+
     @DisplayName("회원 정보 insert 테스트")
     @Test
     void givenAdminAccounts_whenInserting_thenWorksFine() {
@@ -89,6 +135,62 @@ class JpaRepositoryTest {
         assertThat(adminAccountRepository.count()).isEqualTo(previousCount - 1);
     }
 
+    @DisplayName("방문 수 - 저장된 누적 방문 수에 더하고, 새로 뜬 노드는 시작할 때 그 누적 방문 수를 읽는다.")
+    @Test
+    void givenStoredVisitCounts_whenNewNodeLoadsTotal_thenStartsFromStoredTotal() {
+        // Given
+        visitCountRepository.saveAndFlush(VisitCount.of("/management/articles", 40L));
+        VisitCountStore visitCountStore = new VisitCountStore(visitCountRepository);
+        visitCountStore.addAll(Map.of("/management/articles", 2L, "/admin/members", 1L));
+        VisitCounterService restartedNode = new VisitCounterService(
+                new ProjectProperties(null, new ProjectProperties.Visit(Duration.ofSeconds(10), 7)),
+                visitCountStore
+        );
+
+        // When
+        restartedNode.loadTotal();
+
+        // Then
+        assertThat(restartedNode.visitCount()).isEqualTo(43);
+    }
+
+    @DisplayName("게시판 복제본 - 저장된 게시글은 덮어쓰고, 새 게시글은 추가한다.")
+    @Test
+    void givenStoredAndNewArticles_whenSavingMirror_thenUpdatesStoredAndInsertsNew() {
+        // Given
+        boardArticleRepository.saveAndFlush(createArticleDto(1L, "old title").toEntity());
+        entityManager.clear();
+        BoardMirrorService boardMirrorService = new BoardMirrorService(
+                boardArticleRepository, boardArticleCommentRepository, boardUserAccountRepository, boardSyncWatermarkRepository
+        );
+
+        // When
+        boardMirrorService.saveArticles(List.of(createArticleDto(1L, "new title"), createArticleDto(2L, "title")));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(boardArticleRepository.findAll())
+                .extracting(BoardArticle::getId, BoardArticle::getTitle)
+                .containsExactlyInAnyOrder(tuple(1L, "new title"), tuple(2L, "title"));
+        assertThat(boardArticleRepository.findById(1L)).hasValueSatisfying(article -> assertThat(article.isNew()).isFalse());
+    }
+
+    private ArticleDto createArticleDto(Long id, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return ArticleDto.of(
+                id,
+                UserAccountDto.of("ihjTest", "ihj@email.com", "ihj", "memo"),
+                title,
+                "content",
+                null,
+                now,
+                "ihj",
+                now,
+                "ihj"
+        );
+    }
+
 
     @EnableJpaAuditing
     @TestConfiguration
@@ -2,9 +2,18 @@ package com.springstudy.projectboardadmin.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springstudy.projectboardadmin.dto.ArticleCommentDto;
+import com.springstudy.projectboardadmin.dto.ArticleCommentSummaryDto;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
 import com.springstudy.projectboardadmin.dto.response.ArticleCommentClientResponse;
+import com.springstudy.projectboardadmin.service.support.BatchDetailLoader;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import com.springstudy.projectboardadmin.service.support.BulkDeleter;
+import com.springstudy.projectboardadmin.service.support.ConditionalGetClient;
+import com.springstudy.projectboardadmin.service.support.DetailPrefetcher;
+import com.springstudy.projectboardadmin.service.support.HalStreamingReader;
+import com.springstudy.projectboardadmin.service.support.ParallelPageFetcher;
+import com.springstudy.projectboardadmin.service.support.RequestCoalescer;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,12 +23,16 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.client.MockRestServiceServer;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,7 +63,8 @@ class ArticleCommentManagementServiceTest {
             // Given
 
             // When
-            List<ArticleCommentDto> result = sut.getArticleComments();
+            List<ArticleCommentDto> result = new ArrayList<>();
+            sut.forEachArticleComment(result::add);
 
             // Then
             System.out.println(result.stream().findFirst());
@@ -62,7 +76,7 @@ class ArticleCommentManagementServiceTest {
     @DisplayName("API mocking 테스트")
     @EnableConfigurationProperties(ProjectProperties.class)
     @AutoConfigureWebClient(registerRestTemplate = true)
-    @RestClientTest(ArticleCommentManagementService.class)
+    @RestClientTest({ArticleCommentManagementService.class, ParallelPageFetcher.class, ConditionalGetClient.class, RequestCoalescer.class, HalStreamingReader.class, BoardListSnapshots.class, BulkDeleter.class, BatchDetailLoader.class, DetailPrefetcher.class})
     @Nested
     class RestTemplateTest {
 
@@ -87,14 +101,15 @@ class ArticleCommentManagementServiceTest {
             ArticleCommentDto expectedComment = createArticleCommentDto("댓글");
             ArticleCommentClientResponse expectedResponse = ArticleCommentClientResponse.of(List.of(expectedComment));
             server
-                    .expect(requestTo(projectProperties.board().url() + "/api/articleComments?size=10000"))
+                    .expect(requestTo(projectProperties.board().url() + "/api/articleComments?page=0&size=" + projectProperties.board().pageSize() + "&sort=id,asc"))
                     .andRespond(withSuccess(
                             mapper.writeValueAsString(expectedResponse),
                             MediaType.APPLICATION_JSON
                     ));
 
             // When
-            List<ArticleCommentDto> result = sut.getArticleComments();
+            List<ArticleCommentDto> result = new ArrayList<>();
+            sut.forEachArticleComment(result::add);
 
             // Then
             assertThat(result).first()
@@ -104,6 +119,52 @@ class ArticleCommentManagementServiceTest {
             server.verify();
         }
 
+        @DisplayName("페이지 정보와 함께 댓글 목록 API를 호출하면, 해당 페이지의 댓글들만 가져온다.")
+        @Test
+        void givenPageable_whenCallingPagedCommentsApi_thenReturnsCommentPage() throws Exception {
+            // Given
+            ArticleCommentDto expectedComment = createArticleCommentDto("댓글");
+            ArticleCommentClientResponse expectedResponse = ArticleCommentClientResponse.of(List.of(expectedComment));
+            server
+                    .expect(requestTo(projectProperties.board().url() + "/api/articleComments?page=0&size=10&sort=createdAt,desc&projection=" + projectProperties.board().listProjection().articleComment()))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(expectedResponse),
+                            MediaType.APPLICATION_JSON
+                    ));
+
+            // When
+            Page<ArticleCommentSummaryDto> result = sut.getArticleComments(null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent()).first()
+                    .hasFieldOrPropertyWithValue("content", expectedComment.content());
+            server.verify();
+        }
+
+        @DisplayName("전체 댓글을 하나씩 받도록 요청하면, 응답을 읽는 대로 댓글을 순서대로 넘겨준다.")
+        @Test
+        void givenNothing_whenIteratingEveryComment_thenPassesCommentsOneByOne() throws Exception {
+            // Given
+            ArticleCommentDto firstComment = createArticleCommentDto("첫 댓글");
+            ArticleCommentDto secondComment = createArticleCommentDto("둘째 댓글");
+            ArticleCommentClientResponse expectedResponse = ArticleCommentClientResponse.of(List.of(firstComment, secondComment));
+            server
+                    .expect(requestTo(projectProperties.board().url() + "/api/articleComments?page=0&size=" + projectProperties.board().pageSize() + "&sort=id,asc"))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(expectedResponse),
+                            MediaType.APPLICATION_JSON
+                    ));
+            List<String> contents = new ArrayList<>();
+
+            // When
+            sut.forEachArticleComment(comment -> contents.add(comment.content()));
+
+            // Then
+            assertThat(contents).containsExactly("첫 댓글", "둘째 댓글");
+            server.verify();
+        }
+
         @DisplayName("댓글 ID와 함께 댓글 API를 호출하면, 댓글을 가져온다.")
         @Test
         void givenCommentId_whenCallingCommentApi_thenReturnsComment() throws Exception {
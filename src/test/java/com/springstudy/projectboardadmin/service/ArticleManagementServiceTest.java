@@ -1,32 +1,61 @@
 package com.springstudy.projectboardadmin.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springstudy.projectboardadmin.config.CacheConfig;
 import com.springstudy.projectboardadmin.domain.constant.RoleType;
 import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.ArticleSummaryDto;
+import com.springstudy.projectboardadmin.dto.StalePage;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
 import com.springstudy.projectboardadmin.dto.response.ArticleClientResponse;
+import com.springstudy.projectboardadmin.dto.response.BulkDeleteResponse;
+import com.springstudy.projectboardadmin.service.support.BatchDetailLoader;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import com.springstudy.projectboardadmin.service.support.BulkDeleter;
+import com.springstudy.projectboardadmin.service.support.ConditionalGetClient;
+import com.springstudy.projectboardadmin.service.support.DetailPrefetcher;
+import com.springstudy.projectboardadmin.service.support.HalStreamingReader;
+import com.springstudy.projectboardadmin.service.support.ParallelPageFetcher;
+import com.springstudy.projectboardadmin.service.support.RequestCoalescer;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
 import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 @ActiveProfiles("test")
@@ -52,7 +81,8 @@ class ArticleManagementServiceTest {
             // Given
 
             // When
-            List<ArticleDto> result = sut.getArticles();
+            List<ArticleDto> result = new ArrayList<>();
+            sut.forEachArticle(result::add);
 
             // Then
             System.out.println(result.stream().findFirst());
@@ -65,7 +95,7 @@ class ArticleManagementServiceTest {
     @DisplayName("API mocking 테스트")
     @EnableConfigurationProperties(ProjectProperties.class)
     @AutoConfigureWebClient(registerRestTemplate = true)
-    @RestClientTest(ArticleManagementService.class)
+    @RestClientTest({ArticleManagementService.class, ParallelPageFetcher.class, ConditionalGetClient.class, RequestCoalescer.class, HalStreamingReader.class, BoardListSnapshots.class, BulkDeleter.class, BatchDetailLoader.class, DetailPrefetcher.class})
     @Nested
     class RestTemplateTest {
 
@@ -96,14 +126,15 @@ class ArticleManagementServiceTest {
             ArticleDto expectedArticle = createArticleDto("title", "content");
             ArticleClientResponse expectedResponse = ArticleClientResponse.of(List.of(expectedArticle));
             server
-                    .expect(requestTo(projectProperties.board().url() + "/api/articles?size=10000"))
+                    .expect(requestTo(projectProperties.board().url() + "/api/articles?page=0&size=" + projectProperties.board().pageSize() + "&sort=id,asc"))
                     .andRespond(withSuccess(
                             mapper.writeValueAsString(expectedResponse),
                             MediaType.APPLICATION_JSON
                     ));
 
             // When
-            List<ArticleDto> result = sut.getArticles();
+            List<ArticleDto> result = new ArrayList<>();
+            sut.forEachArticle(result::add);
 
             // Then
             assertThat(result).first()
@@ -114,6 +145,196 @@ class ArticleManagementServiceTest {
             server.verify();
         }
 
+        @DisplayName("페이지 정보와 함께 게시글 목록 API를 호출하면, 해당 페이지의 게시글들만 가져온다.")
+        @Test
+        void givenPageable_whenCallingPagedArticlesApi_thenReturnsArticlePage() throws Exception {
+            // Given
+            ArticleDto expectedArticle = createArticleDto("title", "content");
+            ArticleClientResponse expectedResponse = ArticleClientResponse.of(List.of(expectedArticle));
+            server
+                    .expect(requestTo(projectProperties.board().url() + "/api/articles?page=0&size=10&sort=createdAt,desc&title=title&projection=" + projectProperties.board().listProjection().article()))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(expectedResponse),
+                            MediaType.APPLICATION_JSON
+                    ));
+
+            // When
+            Page<ArticleSummaryDto> result = sut.getArticles("title", PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent()).first()
+                    .hasFieldOrPropertyWithValue("title", expectedArticle.title());
+            server.verify();
+        }
+
+        @DisplayName("게시글 목록이 바뀌지 않았으면, 조건부 요청을 보내고 304 응답에는 이전 응답을 그대로 돌려준다.")
+        @Test
+        void givenETaggedArticlePage_whenCallingAgainAndNotModified_thenReturnsPreviousResponse() throws Exception {
+            // Given
+            ArticleDto expectedArticle = createArticleDto("title", "content");
+            ArticleClientResponse expectedResponse = ArticleClientResponse.of(List.of(expectedArticle));
+            HttpHeaders eTagHeaders = new HttpHeaders();
+            eTagHeaders.setETag("\"v1\"");
+            String pageUrl = projectProperties.board().url() + "/api/articles?page=0&size=10&projection=" + projectProperties.board().listProjection().article();
+            server
+                    .expect(requestTo(pageUrl))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(expectedResponse),
+                            MediaType.APPLICATION_JSON
+                    ).headers(eTagHeaders));
+            server
+                    .expect(requestTo(pageUrl))
+                    .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                    .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+            // When
+            Page<ArticleSummaryDto> first = sut.getArticles(null, PageRequest.of(0, 10));
+            Page<ArticleSummaryDto> second = sut.getArticles(null, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(second.getContent())
+                    .hasSize(1)
+                    .isEqualTo(first.getContent());
+            server.verify();
+        }
+
+        @DisplayName("동기화용 게시글 페이지는, 검증자가 있어도 기억해 두지 않고 매번 전체를 요청한다.")
+        @Test
+        void givenETaggedSyncPage_whenStreamingTwice_thenSendsUnconditionalRequests() throws Exception {
+            // Given
+            ArticleClientResponse expectedResponse = ArticleClientResponse.of(List.of(createArticleDto("title", "content")));
+            HttpHeaders eTagHeaders = new HttpHeaders();
+            eTagHeaders.setETag("\"v1\"");
+            String pageUrl = projectProperties.board().url() + "/api/articles?page=0&size=" + projectProperties.board().pageSize() + "&sort=modifiedAt,desc";
+            server
+                    .expect(ExpectedCount.twice(), requestTo(pageUrl))
+                    .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(expectedResponse),
+                            MediaType.APPLICATION_JSON
+                    ).headers(eTagHeaders));
+            LocalDateTime since = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+            // When
+            List<ArticleDto> first = sut.streamArticlesModifiedSince(since).toList();
+            List<ArticleDto> second = sut.streamArticlesModifiedSince(since).toList();
+
+            // Then
+            assertThat(first).hasSize(1);
+            assertThat(second).hasSize(1);
+            server.verify();
+        }
+
+        @DisplayName("서킷이 열려 게시판에 요청하지 못하면, 마지막으로 받은 게시글 목록을 오래된 응답으로 표시해 돌려준다.")
+        @Test
+        void givenOpenCircuit_whenCallingArticlePage_thenReturnsLastPageAsStale() throws Exception {
+            // Given
+            ArticleDto expectedArticle = createArticleDto("title", "content");
+            ArticleClientResponse expectedResponse = ArticleClientResponse.of(List.of(expectedArticle));
+            String pageUrl = projectProperties.board().url() + "/api/articles?page=0&size=10&projection=" + projectProperties.board().listProjection().article();
+            server
+                    .expect(requestTo(pageUrl))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(expectedResponse),
+                            MediaType.APPLICATION_JSON
+                    ));
+            server
+                    .expect(requestTo(pageUrl))
+                    .andRespond(request -> {
+                        throw CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("board"));
+                    });
+
+            // When
+            Page<ArticleSummaryDto> first = sut.getArticles(null, PageRequest.of(0, 10));
+            Page<ArticleSummaryDto> second = sut.getArticles(null, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(first).isNotInstanceOf(StalePage.class);
+            assertThat(second)
+                    .isInstanceOf(StalePage.class)
+                    .hasSameElementsAs(first.getContent());
+            server.verify();
+        }
+
+        @DisplayName("전체 게시글을 하나씩 받도록 요청하면, 마지막 페이지까지 요청해 페이지 순서대로 넘겨준다.")
+        @Test
+        void givenMultiplePages_whenIteratingEveryArticle_thenPassesArticlesInPageOrder() throws Exception {
+            // Given
+            String pagesUrl = projectProperties.board().url() + "/api/articles?page=%d&size=" + projectProperties.board().pageSize() + "&sort=id,asc";
+            server
+                    .expect(requestTo(pagesUrl.formatted(0)))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(createPagedResponse(createArticleDto("first", "content"), 0)),
+                            MediaType.APPLICATION_JSON
+                    ));
+            server
+                    .expect(requestTo(pagesUrl.formatted(1)))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(createPagedResponse(createArticleDto("second", "content"), 1)),
+                            MediaType.APPLICATION_JSON
+                    ));
+            List<String> titles = new ArrayList<>();
+
+            // When
+            sut.forEachArticle(article -> titles.add(article.title()));
+
+            // Then
+            assertThat(titles).containsExactly("first", "second");
+            server.verify();
+        }
+
+        @DisplayName("게시글 스트림을 끝까지 소비하면, 마지막 페이지까지 순서대로 요청한다.")
+        @Test
+        void givenMultiplePages_whenStreamingArticles_thenRequestsEveryPageInOrder() throws Exception {
+            // Given
+            ArticleDto firstArticle = createArticleDto("first", "content");
+            ArticleDto secondArticle = createArticleDto("second", "content");
+            server
+                    .expect(requestTo(projectProperties.board().url() + "/api/articles?page=0&size=1&sort=id,asc"))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(createPagedResponse(firstArticle, 0)),
+                            MediaType.APPLICATION_JSON
+                    ));
+            server
+                    .expect(requestTo(projectProperties.board().url() + "/api/articles?page=1&size=1&sort=id,asc"))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(createPagedResponse(secondArticle, 1)),
+                            MediaType.APPLICATION_JSON
+                    ));
+
+            // When
+            List<ArticleDto> result = sut.streamArticles(1).toList();
+
+            // Then
+            assertThat(result)
+                    .extracting(ArticleDto::title)
+                    .containsExactly("first", "second");
+            server.verify();
+        }
+
+        @DisplayName("게시글 스트림을 일부만 소비하면, 필요한 페이지까지만 요청한다.")
+        @Test
+        void givenMultiplePages_whenPartiallyStreamingArticles_thenRequestsOnlyNeededPages() throws Exception {
+            // Given
+            ArticleDto firstArticle = createArticleDto("first", "content");
+            server
+                    .expect(requestTo(projectProperties.board().url() + "/api/articles?page=0&size=1&sort=id,asc"))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(createPagedResponse(firstArticle, 0)),
+                            MediaType.APPLICATION_JSON
+                    ));
+
+            // When
+            List<ArticleDto> result = sut.streamArticles(1).limit(1).toList();
+
+            // Then
+            assertThat(result)
+                    .extracting(ArticleDto::title)
+                    .containsExactly("first");
+            server.verify();
+        }
+
         @DisplayName("게시글 ID와 함께 게시글 API를 호출하면, 게시글을 가져온다.")
         @Test
         void givenNothing_whenCallingArticleApi_thenReturnsArticle() throws Exception {
@@ -156,6 +377,44 @@ class ArticleManagementServiceTest {
             server.verify();
         }
 
+        @DisplayName("여러 게시글 ID와 함께 삭제하면, 동시에 삭제를 요청하고 ID 별 결과를 돌려준다.")
+        @Test
+        void givenArticleIds_whenDeletingArticles_thenReturnsResultPerId() {
+            // Given
+            List<Long> articleIds = List.of(1L, 2L, 1L);
+            server
+                    .expect(ExpectedCount.times(2), requestTo(startsWith(projectProperties.board().url() + "/api/articles/")))
+                    .andExpect(method(HttpMethod.DELETE))
+                    .andRespond(request -> request.getURI().getPath().endsWith("/2")
+                            ? withStatus(HttpStatus.NOT_FOUND).createResponse(request)
+                            : withSuccess().createResponse(request)
+                    );
+
+            // When
+            BulkDeleteResponse<Long> result = sut.deleteArticles(articleIds);
+
+            // Then
+            assertThat(result)
+                    .hasFieldOrPropertyWithValue("requested", 2)
+                    .hasFieldOrPropertyWithValue("deleted", 1)
+                    .hasFieldOrPropertyWithValue("notFound", 1)
+                    .hasFieldOrPropertyWithValue("failed", 0);
+            assertThat(result.results())
+                    .extracting(BulkDeleteResponse.Result::id, BulkDeleteResponse.Result::status)
+                    .containsExactly(
+                            tuple(1L, BulkDeleteResponse.Status.DELETED),
+                            tuple(2L, BulkDeleteResponse.Status.NOT_FOUND)
+                    );
+            server.verify();
+        }
+
+        private ArticleClientResponse createPagedResponse(ArticleDto article, int pageNumber) {
+            return new ArticleClientResponse(
+                    new ArticleClientResponse.Embedded(List.of(article)),
+                    new ArticleClientResponse.Page(1, 2, 2, pageNumber)
+            );
+        }
+
         private ArticleDto createArticleDto(String title, String content) {
             return ArticleDto.of(
                     1L,
@@ -180,4 +439,116 @@ class ArticleManagementServiceTest {
         }
 
     }
+
+    @DisplayName("단건 조회 캐시 테스트")
+    @EnableConfigurationProperties(ProjectProperties.class)
+    @AutoConfigureWebClient(registerRestTemplate = true)
+    @AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+    @Import(CacheConfig.class)
+    @RestClientTest({ArticleManagementService.class, ParallelPageFetcher.class, ConditionalGetClient.class, RequestCoalescer.class, HalStreamingReader.class, BoardListSnapshots.class, BulkDeleter.class, BatchDetailLoader.class, DetailPrefetcher.class})
+    @Nested
+    class CacheTest {
+
+        private final ArticleManagementService sut;
+
+        private final ProjectProperties projectProperties;
+        private final MockRestServiceServer server;
+        private final ObjectMapper mapper;
+
+        @Autowired
+        public CacheTest(
+                ArticleManagementService sut,
+                ProjectProperties projectProperties,
+                MockRestServiceServer server,
+                ObjectMapper mapper
+        ) {
+            this.sut = sut;
+            this.projectProperties = projectProperties;
+            this.server = server;
+            this.mapper = mapper;
+        }
+
+        @DisplayName("같은 게시글을 다시 조회하면, 게시판 API를 호출하지 않고 캐시된 게시글을 반환한다. 삭제하면 캐시에서도 지운다.")
+        @Test
+        void givenCachedArticle_whenCallingArticleApiAgainAndDeleting_thenUsesCacheUntilEvicted() throws Exception {
+            // Given
+            Long articleId = 1L;
+            ArticleDto expectedArticle = ArticleDto.of(
+                    articleId,
+                    UserAccountDto.of("ihjTest", "ihj@email.com", "Ihj", "memo"),
+                    "title",
+                    "content",
+                    null,
+                    LocalDateTime.now(),
+                    "Ihj",
+                    LocalDateTime.now(),
+                    "Ihj"
+            );
+            String articleUrl = projectProperties.board().url() + "/api/articles/" + articleId;
+            server
+                    .expect(requestTo(articleUrl + "?projection=withUserAccount"))
+                    .andRespond(withSuccess(mapper.writeValueAsString(expectedArticle), MediaType.APPLICATION_JSON));
+            server
+                    .expect(requestTo(articleUrl))
+                    .andExpect(method(HttpMethod.DELETE))
+                    .andRespond(withSuccess());
+            server
+                    .expect(requestTo(articleUrl + "?projection=withUserAccount"))
+                    .andRespond(withSuccess(mapper.writeValueAsString(expectedArticle), MediaType.APPLICATION_JSON));
+
+            // When
+            ArticleDto first = sut.getArticle(articleId);
+            ArticleDto cached = sut.getArticle(articleId);
+            sut.deleteArticle(articleId);
+            ArticleDto reloaded = sut.getArticle(articleId);
+
+            // Then
+            assertThat(cached).isEqualTo(first);
+            assertThat(reloaded).hasFieldOrPropertyWithValue("id", articleId);
+            server.verify();
+        }
+
+        @DisplayName("여러 게시글을 한 번에 조회하면, 캐시에 없는 게시글만 게시판에 요청하고 게시판에 없는 게시글은 빼고 돌려준다.")
+        @Test
+        void givenPartiallyCachedArticles_whenCallingArticlesByIds_thenRequestsOnlyUncachedArticles() throws Exception {
+            // Given
+            ArticleDto cachedArticle = createArticleDto(1L);
+            ArticleDto uncachedArticle = createArticleDto(2L);
+            String articlesUrl = projectProperties.board().url() + "/api/articles/";
+            server
+                    .expect(requestTo(articlesUrl + "1?projection=withUserAccount"))
+                    .andRespond(withSuccess(mapper.writeValueAsString(cachedArticle), MediaType.APPLICATION_JSON));
+            server
+                    .expect(ExpectedCount.times(2), requestTo(startsWith(articlesUrl)))
+                    .andRespond(request -> request.getURI().getPath().endsWith("/2")
+                            ? withSuccess(mapper.writeValueAsString(uncachedArticle), MediaType.APPLICATION_JSON).createResponse(request)
+                            : withStatus(HttpStatus.NOT_FOUND).createResponse(request)
+                    );
+            sut.getArticle(1L);
+
+            // When
+            List<ArticleDto> result = sut.getArticlesByIds(List.of(2L, 1L, 3L, 2L));
+
+            // Then
+            assertThat(result)
+                    .extracting(ArticleDto::id)
+                    .containsExactly(2L, 1L);
+            server.verify();
+        }
+
+        private ArticleDto createArticleDto(Long articleId) {
+            return ArticleDto.of(
+                    articleId,
+                    UserAccountDto.of("ihjTest", "ihj@email.com", "Ihj", "memo"),
+                    "title",
+                    "content",
+                    null,
+                    LocalDateTime.now(),
+                    "Ihj",
+                    LocalDateTime.now(),
+                    "Ihj"
+            );
+        }
+
+    }
 }
\ No newline at end of file
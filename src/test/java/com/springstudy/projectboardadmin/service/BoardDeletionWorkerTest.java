@@ -0,0 +1,111 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.BoardDeletion;
+import com.springstudy.projectboardadmin.domain.constant.BoardDeletionStatus;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시판 삭제 아웃박스 처리")
+@ExtendWith(MockitoExtension.class)
+class BoardDeletionWorkerTest {
+
+    private BoardDeletionWorker sut;
+
+    @Mock private RestTemplate restTemplate;
+    @Mock private BoardDeletionOutbox boardDeletionOutbox;
+
+    private final ProjectProperties.DeletionOutbox outboxProperties = new ProjectProperties.DeletionOutbox(
+            true, Duration.ofSeconds(5), 10, Duration.ofSeconds(5), Duration.ofMinutes(10), 3, Duration.ofDays(7)
+    );
+
+    @BeforeEach
+    void setUp() {
+        ProjectProperties projectProperties = new ProjectProperties(
+                new ProjectProperties.Board("http://localhost:8080", 500, null, null, null, null, null, null, null, null, outboxProperties, null, null, null, null)
+        , null);
+        sut = new BoardDeletionWorker(restTemplate, projectProperties, boardDeletionOutbox);
+    }
+
+    @DisplayName("게시판이 삭제하거나 이미 없다고 응답하면, 삭제 요청을 완료로 남긴다.")
+    @Test
+    void givenDeletedOrMissingOnBoard_whenDraining_thenCompletesDeletions() {
+        // Given
+        BoardDeletion article = BoardDeletion.of(BoardResource.ARTICLE, "1", LocalDateTime.now());
+        BoardDeletion userAccount = BoardDeletion.of(BoardResource.USER_ACCOUNT, "uno", LocalDateTime.now());
+        given(boardDeletionOutbox.findDue(10)).willReturn(List.of(article, userAccount));
+        willDoNothing().given(restTemplate).delete(URI.create("http://localhost:8080/api/articles/1"));
+        willThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null))
+                .given(restTemplate).delete(URI.create("http://localhost:8080/api/userAccounts/uno"));
+
+        // When
+        sut.drain();
+
+        // Then
+        then(boardDeletionOutbox).should().save(article);
+        then(boardDeletionOutbox).should().save(userAccount);
+        then(boardDeletionOutbox).should().purgeCompleted(any());
+        assertThat(List.of(article, userAccount))
+                .extracting(BoardDeletion::getStatus)
+                .containsOnly(BoardDeletionStatus.DONE);
+    }
+
+    @DisplayName("게시판이 실패하면, 시도 횟수를 늘리고 백오프 뒤에 다시 보내도록 남긴다.")
+    @Test
+    void givenBoardError_whenDraining_thenSchedulesRetryWithBackoff() {
+        // Given
+        BoardDeletion deletion = BoardDeletion.of(BoardResource.ARTICLE_COMMENT, "7", LocalDateTime.now());
+        given(boardDeletionOutbox.findDue(10)).willReturn(List.of(deletion));
+        willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)).given(restTemplate).delete(any(URI.class));
+
+        // When
+        sut.drain();
+
+        // Then
+        then(boardDeletionOutbox).should().save(deletion);
+        assertThat(deletion)
+                .hasFieldOrPropertyWithValue("status", BoardDeletionStatus.PENDING)
+                .hasFieldOrPropertyWithValue("attempts", 1);
+        assertThat(deletion.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(4));
+        assertThat(deletion.getLastError()).contains("503");
+    }
+
+    @DisplayName("서킷이 열려 게시판에 보내지 못하면, 시도 횟수를 세지 않고 이번 주기를 멈춘다.")
+    @Test
+    void givenOpenCircuit_whenDraining_thenStopsWithoutCountingAttempt() {
+        // Given
+        BoardDeletion first = BoardDeletion.of(BoardResource.ARTICLE, "1", LocalDateTime.now());
+        BoardDeletion second = BoardDeletion.of(BoardResource.ARTICLE, "2", LocalDateTime.now());
+        given(boardDeletionOutbox.findDue(10)).willReturn(List.of(first, second));
+        willThrow(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("board")))
+                .given(restTemplate).delete(any(URI.class));
+
+        // When
+        sut.drain();
+
+        // Then
+        then(restTemplate).should(times(1)).delete(any(URI.class));
+        then(boardDeletionOutbox).should(never()).save(any());
+        assertThat(first.getAttempts()).isZero();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.domain.BoardSyncWatermark;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시판 데이터 동기화")
+@ExtendWith(MockitoExtension.class)
+class BoardMirrorSyncServiceTest {
+
+    private BoardMirrorSyncService sut;
+
+    @Mock private BoardMirrorService boardMirrorService;
+    @Mock private ArticleManagementService articleManagementService;
+    @Mock private ArticleCommentManagementService articleCommentManagementService;
+    @Mock private UserAccountManagementService userAccountManagementService;
+
+    private final ProjectProperties.Mirror mirrorProperties = new ProjectProperties.Mirror(
+            true, Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(1), 500
+    );
+
+    @BeforeEach
+    void setUp() {
+        ProjectProperties projectProperties = new ProjectProperties(
+                new ProjectProperties.Board("http://localhost:8080", 500, null, null, null, null, null, mirrorProperties, null, null, null, null, null, null, null)
+        , null);
+        sut = new BoardMirrorSyncService(
+                projectProperties,
+                boardMirrorService,
+                articleManagementService,
+                articleCommentManagementService,
+                userAccountManagementService
+        );
+    }
+
+    @DisplayName("워터마크가 없으면, 전체 목록을 받아 저장하고 게시판에 없는 데이터는 로컬에서 지운다.")
+    @Test
+    void givenNoWatermark_whenSyncing_thenFullySyncsAndRetainsOnlyBoardIds() {
+        // Given
+        LocalDateTime newest = LocalDateTime.of(2024, 1, 2, 0, 0);
+        ArticleDto first = createArticleDto(1L, LocalDateTime.of(2024, 1, 1, 0, 0));
+        ArticleDto second = createArticleDto(2L, newest);
+        given(boardMirrorService.getWatermark(BoardResource.ARTICLE)).willReturn(Optional.empty());
+        willAnswer(invocation -> {
+            Consumer<ArticleDto> action = invocation.getArgument(0);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).given(articleManagementService).forEachArticle(any());
+
+        // When
+        sut.syncAll();
+
+        // Then
+        then(boardMirrorService).should().saveArticles(List.of(first, second));
+        then(boardMirrorService).should().retainArticles(Set.of(1L, 2L));
+        then(boardMirrorService).should().recordSync(BoardResource.ARTICLE, newest, true);
+        then(articleManagementService).should(never()).streamArticlesModifiedSince(any());
+    }
+
+    @DisplayName("최근에 전체 동기화를 했으면, 워터마크보다 조금 앞선 시점 이후의 변경분만 받고 아무것도 지우지 않는다.")
+    @Test
+    void givenRecentWatermark_whenSyncing_thenSyncsOnlyChangesSinceWatermark() {
+        // Given
+        LocalDateTime watermarkModifiedAt = LocalDateTime.of(2024, 1, 2, 0, 0);
+        BoardSyncWatermark watermark = BoardSyncWatermark.of(BoardResource.ARTICLE);
+        watermark.setModifiedAt(watermarkModifiedAt);
+        watermark.setFullySyncedAt(LocalDateTime.now());
+        ArticleDto changed = createArticleDto(3L, watermarkModifiedAt.plusMinutes(5));
+        given(boardMirrorService.getWatermark(BoardResource.ARTICLE)).willReturn(Optional.of(watermark));
+        given(articleManagementService.streamArticlesModifiedSince(watermarkModifiedAt.minus(mirrorProperties.overlap())))
+                .willReturn(Stream.of(changed));
+
+        // When
+        sut.syncAll();
+
+        // Then
+        then(boardMirrorService).should().saveArticles(List.of(changed));
+        then(boardMirrorService).should(never()).retainArticles(any());
+        then(boardMirrorService).should().recordSync(BoardResource.ARTICLE, changed.modifiedAt(), false);
+        then(articleManagementService).should(never()).forEachArticle(any());
+    }
+
+    @DisplayName("한 종류의 동기화가 실패해도, 나머지 종류는 계속 동기화한다.")
+    @Test
+    void givenFailingArticleSync_whenSyncing_thenStillSyncsOtherResources() {
+        // Given
+        given(boardMirrorService.getWatermark(BoardResource.ARTICLE)).willReturn(Optional.empty());
+        willThrow(new IllegalStateException("board down")).given(articleManagementService).forEachArticle(any());
+
+        // When
+        sut.syncAll();
+
+        // Then
+        then(boardMirrorService).should(never()).recordSync(eq(BoardResource.ARTICLE), any(), anyBoolean());
+        then(boardMirrorService).should().recordSync(BoardResource.ARTICLE_COMMENT, null, true);
+        then(boardMirrorService).should().recordSync(BoardResource.USER_ACCOUNT, null, true);
+    }
+
+    private ArticleDto createArticleDto(Long id, LocalDateTime modifiedAt) {
+        return ArticleDto.of(
+                id,
+                UserAccountDto.of("ihjTest", "ihj@email.com", "ihj", "memo"),
+                "title",
+                "content",
+                null,
+                modifiedAt,
+                "Ihj",
+                modifiedAt,
+                "Ihj"
+        );
+    }
+}
@@ -0,0 +1,237 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springstudy.projectboardadmin.config.CacheConfig;
+import com.springstudy.projectboardadmin.domain.constant.BoardResource;
+import com.springstudy.projectboardadmin.dto.ArticleDto;
+import com.springstudy.projectboardadmin.dto.ArticleSummaryDto;
+import com.springstudy.projectboardadmin.dto.StalePage;
+import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.ArticleClientResponse;
+import com.springstudy.projectboardadmin.dto.response.ArticleSummaryClientResponse;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshotFile;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비즈니스 로직 - 게시글 관리 (논블로킹)")
+@ExtendWith(MockitoExtension.class)
+class ReactiveArticleManagementServiceTest {
+
+    private static final String BOARD_URL = "http://localhost:8080";
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ProjectProperties projectProperties = new ProjectProperties(
+            new ProjectProperties.Board(BOARD_URL, 1, new ProjectProperties.Fetch(true, 2, 100), null, null,
+                    new ProjectProperties.ListProjection("articleSummary", "articleCommentSummary"), null, null, null, null, null, null,
+                    new ProjectProperties.ListSnapshot(false, Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMinutes(2), 1, 10, false, null, null), null, null)
+    , null);
+    private final List<URI> requestedUris = new CopyOnWriteArrayList<>();
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    private final BoardListSnapshots boardListSnapshots = new BoardListSnapshots(projectProperties, beanFactory.getBeanProvider(BoardListSnapshotFile.class));
+
+    @Mock private ArticleManagementService articleManagementService;
+    @Mock private BoardMirrorService boardMirrorService;
+
+    @AfterEach
+    void tearDown() {
+        boardListSnapshots.destroy();
+    }
+
+    @DisplayName("전체 게시글을 요청하면, 나머지 페이지를 동시에 요청하더라도 페이지 순서대로 내보낸다.")
+    @Test
+    void givenMultiplePages_whenFetchingAllArticles_thenEmitsArticlesInPageOrder() throws Exception {
+        // Given
+        Map<String, String> responses = Map.of(
+                "/api/articles?page=0&size=1&sort=id,asc", mapper.writeValueAsString(createPagedResponse(createArticleDto("first"), 0)),
+                "/api/articles?page=1&size=1&sort=id,asc", mapper.writeValueAsString(createPagedResponse(createArticleDto("second"), 1))
+        );
+        ReactiveArticleManagementService sut = createService(responses);
+
+        // When & Then
+        StepVerifier.create(sut.getArticles().map(ArticleDto::title))
+                .expectNext("first", "second")
+                .verifyComplete();
+        assertThat(requestedUris).hasSize(2);
+    }
+
+    @DisplayName("로컬 복제본이 준비되었으면, 게시판에 요청하지 않고 복제본에서 게시글 목록을 조회한다.")
+    @Test
+    void givenReadyMirror_whenFetchingArticlePage_thenReadsMirror() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<ArticleSummaryDto> mirrored = new PageImpl<>(List.of(createArticleSummaryDto("mirrored")), pageable, 1);
+        beanFactory.addBean("boardMirrorService", boardMirrorService);
+        given(boardMirrorService.isReady(BoardResource.ARTICLE)).willReturn(true);
+        given(boardMirrorService.getArticles("title", pageable)).willReturn(mirrored);
+        ReactiveArticleManagementService sut = createService(Map.of());
+
+        // When
+        Page<ArticleSummaryDto> result = sut.getArticles("title", pageable).block();
+
+        // Then
+        assertThat(result).isSameAs(mirrored);
+        assertThat(requestedUris).isEmpty();
+    }
+
+    @DisplayName("서킷이 열려 게시판에 요청하지 못하면, 마지막으로 받은 게시글 목록을 오래된 응답으로 표시해 돌려준다.")
+    @Test
+    void givenOpenCircuit_whenFetchingArticlePage_thenReturnsLastPageAsStale() throws Exception {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        String pageUrl = "/api/articles?page=0&size=10&projection=articleSummary";
+        AtomicBoolean circuitOpen = new AtomicBoolean();
+        String body = mapper.writeValueAsString(ArticleSummaryClientResponse.of(List.of(createArticleSummaryDto("title"))));
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedUris.add(request.url());
+                    if (circuitOpen.get()) { return Mono.error(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("board"))); }
+
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        ReactiveArticleManagementService sut = createService(webClient);
+        sut.getArticles(null, pageable).block();
+        circuitOpen.set(true);
+
+        // When
+        Page<ArticleSummaryDto> result = sut.getArticles(null, pageable).block();
+
+        // Then
+        assertThat(result).isInstanceOf(StalePage.class);
+        assertThat(result.getContent()).extracting(ArticleSummaryDto::title).containsExactly("title");
+        assertThat(requestedUris).extracting(URI::toString).containsExactly(BOARD_URL + pageUrl, BOARD_URL + pageUrl);
+    }
+
+    @DisplayName("게시글 하나를 두 번 조회하면, 두 번째는 캐시에서 꺼내고 게시판에는 한 번만 요청한다.")
+    @Test
+    void givenArticleId_whenFetchingArticleTwice_thenRequestsBoardOnce() throws Exception {
+        // Given
+        Long articleId = 1L;
+        ReactiveArticleManagementService sut = createService(Map.of(
+                "/api/articles/" + articleId + "?projection=withUserAccount", mapper.writeValueAsString(createArticleDto("title"))
+        ));
+
+        // When
+        ArticleDto first = sut.getArticle(articleId).block();
+        ArticleDto second = sut.getArticle(articleId).block();
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(requestedUris).hasSize(1);
+    }
+
+    @DisplayName("없는 게시글을 조회하면, 게시판의 404 응답을 오류로 전달한다.")
+    @Test
+    void givenUnknownArticleId_whenFetchingArticle_thenEmitsError() {
+        // Given
+        ReactiveArticleManagementService sut = createService(Map.of());
+
+        // When & Then
+        StepVerifier.create(sut.getArticle(404L))
+                .expectError()
+                .verify();
+    }
+
+    @DisplayName("게시글을 삭제하면, 블로킹 버전의 삭제를 거쳐 삭제 대기열, 로컬 복제본, 목록 스냅샷, 캐시를 함께 처리하고 게시판에 직접 요청하지 않는다.")
+    @Test
+    void givenArticleId_whenDeletingArticle_thenDelegatesToBlockingDeletion() {
+        // Given
+        Long articleId = 1L;
+        ReactiveArticleManagementService sut = createService(Map.of());
+
+        // When
+        StepVerifier.create(sut.deleteArticle(articleId))
+                .verifyComplete();
+
+        // Then
+        then(articleManagementService).should().deleteArticle(articleId);
+        assertThat(requestedUris).isEmpty();
+    }
+
+    private ReactiveArticleManagementService createService(Map<String, String> responses) {
+        return createService(WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedUris.add(request.url());
+                    String body = responses.get(request.url().toString().substring(BOARD_URL.length()));
+                    if (body == null) { return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()); }
+
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build());
+    }
+
+    private ReactiveArticleManagementService createService(WebClient webClient) {
+        return new ReactiveArticleManagementService(
+                webClient,
+                projectProperties,
+                new ConcurrentMapCacheManager(CacheConfig.ARTICLE_CACHE),
+                beanFactory.getBeanProvider(BoardMirrorService.class),
+                boardListSnapshots,
+                articleManagementService
+        );
+    }
+
+    private ArticleSummaryDto createArticleSummaryDto(String title) {
+        return ArticleSummaryDto.of(1L, title, UserAccountDto.of("ihjTest", "ihj@email.com", "ihj", "memo"), LocalDateTime.now());
+    }
+
+    private ArticleClientResponse createPagedResponse(ArticleDto article, int pageNumber) {
+        return new ArticleClientResponse(
+                new ArticleClientResponse.Embedded(List.of(article)),
+                new ArticleClientResponse.Page(1, 2, 2, pageNumber)
+        );
+    }
+
+    private ArticleDto createArticleDto(String title) {
+        return ArticleDto.of(
+                1L,
+                UserAccountDto.of("ihjTest", "ihj@email.com", "ihj", "memo"),
+                title,
+                "content",
+                null,
+                LocalDateTime.now(),
+                "Ihj",
+                LocalDateTime.now(),
+                "Ihj"
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.service.support.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 어드민 방문자 수")
+@ExtendWith(MockitoExtension.class)
+class UniqueAdminServiceTest {
+
+    private UniqueAdminService sut;
+
+    @Mock private UniqueAdminSketchStore uniqueAdminSketchStore;
+
+    @BeforeEach
+    void setUp() {
+        ProjectProperties projectProperties = new ProjectProperties(null, new ProjectProperties.Visit(Duration.ofSeconds(10), 7));
+        sut = new UniqueAdminService(projectProperties, uniqueAdminSketchStore);
+    }
+
+    @DisplayName("관리 화면을 본 계정만, 여러 번 봐도 한 번 센다.")
+    @Test
+    void givenRepeatedVisits_whenCounting_thenCountsDistinctAdminsOnViewEndpoints() {
+        // Given
+
+        // When
+        sut.visit("/management/articles", "uno");
+        sut.visit("/admin/members", "uno");
+        sut.visit("/management/user-accounts", "dos");
+        sut.visit("/management/articles/{articleId}", "tres");
+
+        // Then
+        assertThat(sut.uniqueAdmins(1)).isEqualTo(2);
+    }
+
+    @DisplayName("다른 노드가 합친 스케치를 읽어 오면, 이 노드의 방문자와 합쳐 날짜 범위별로 센다.")
+    @Test
+    void givenStoredSketches_whenFlushing_thenMergesWithOtherNodes() {
+        // Given
+        HyperLogLog today = new HyperLogLog();
+        today.add("uno");
+        today.add("dos");
+        HyperLogLog threeDaysAgo = new HyperLogLog();
+        threeDaysAgo.add("tres");
+        given(uniqueAdminSketchStore.findSince(any(LocalDate.class)))
+                .willReturn(Map.of(LocalDate.now(), today, LocalDate.now().minusDays(3), threeDaysAgo));
+        sut.visit("/management/articles", "uno");
+        sut.visit("/management/articles", "cuatro");
+
+        // When
+        sut.flush();
+
+        // Then
+        assertThat(sut.uniqueAdmins(1)).isEqualTo(3);
+        assertThat(sut.uniqueAdmins(7)).isEqualTo(4);
+        assertThat(sut.uniqueAdminsToday()).isEqualTo(3);
+        assertThat(sut.uniqueAdminsThisWeek()).isEqualTo(4);
+        then(uniqueAdminSketchStore).should().mergeAll(argThat(sketches -> sketches.containsKey(LocalDate.now())));
+    }
+
+    @DisplayName("화면에 보여줄 방문자 수는 합칠 때만 다시 추정한다.")
+    @Test
+    void givenVisitsBeforeFlush_whenReadingEstimates_thenReturnsLastFlushedEstimates() {
+        // Given
+        sut.visit("/management/articles", "uno");
+
+        // When
+        long beforeFlush = sut.uniqueAdminsToday();
+        sut.flush();
+        long afterFlush = sut.uniqueAdminsToday();
+
+        // Then
+        assertThat(beforeFlush).isZero();
+        assertThat(afterFlush).isEqualTo(1);
+        assertThat(sut.uniqueAdminsThisWeek()).isEqualTo(1);
+    }
+
+    @DisplayName("시작할 때 저장된 스케치를 읽어, 첫 주기 전에도 오늘과 최근 일주일 방문자 수를 보여준다.")
+    @Test
+    void givenStoredSketches_whenLoadingOnStartup_thenEstimatesFromStoredSketches() {
+        // Given
+        HyperLogLog today = new HyperLogLog();
+        today.add("uno");
+        HyperLogLog twoDaysAgo = new HyperLogLog();
+        twoDaysAgo.add("dos");
+        given(uniqueAdminSketchStore.findSince(LocalDate.now().minusDays(6)))
+                .willReturn(Map.of(LocalDate.now(), today, LocalDate.now().minusDays(2), twoDaysAgo));
+
+        // When
+        sut.loadStored();
+
+        // Then
+        assertThat(sut.uniqueAdminsToday()).isEqualTo(1);
+        assertThat(sut.uniqueAdminsThisWeek()).isEqualTo(2);
+        then(uniqueAdminSketchStore).should(never()).mergeAll(anyMap());
+    }
+
+    @DisplayName("DB 에 합치지 못해도, 이 노드의 스케치는 남아 다음에 다시 합친다.")
+    @Test
+    void givenStoreFailure_whenFlushing_thenRetriesWithSameSketch() {
+        // Given
+        sut.visit("/management/articles", "uno");
+        willThrow(new QueryTimeoutException("timeout")).willDoNothing().given(uniqueAdminSketchStore).mergeAll(anyMap());
+
+        // When
+        sut.flush();
+        sut.flush();
+
+        // Then
+        assertThat(sut.uniqueAdminsToday()).isEqualTo(1);
+        then(uniqueAdminSketchStore).should(times(2)).mergeAll(argThat(sketches -> sketches.get(LocalDate.now()).estimate() == 1));
+    }
+}
@@ -4,6 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springstudy.projectboardadmin.dto.UserAccountDto;
 import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
 import com.springstudy.projectboardadmin.dto.response.UserAccountClientResponse;
+import com.springstudy.projectboardadmin.service.support.BatchDetailLoader;
+import com.springstudy.projectboardadmin.service.support.BoardListSnapshots;
+import com.springstudy.projectboardadmin.service.support.BulkDeleter;
+import com.springstudy.projectboardadmin.service.support.ConditionalGetClient;
+import com.springstudy.projectboardadmin.service.support.DetailPrefetcher;
+import com.springstudy.projectboardadmin.service.support.HalStreamingReader;
+import com.springstudy.projectboardadmin.service.support.ParallelPageFetcher;
+import com.springstudy.projectboardadmin.service.support.RequestCoalescer;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,11 +21,15 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.client.MockRestServiceServer;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,7 +61,8 @@ class UserAccountManagementServiceTest {
             // Given
 
             // When
-            List<UserAccountDto> result = sut.getUserAccounts();
+            List<UserAccountDto> result = new ArrayList<>();
+            sut.forEachUserAccount(result::add);
 
             // Then
             System.out.println(result.stream().findFirst());
@@ -61,7 +74,7 @@ class UserAccountManagementServiceTest {
     @DisplayName("API mocking 테스트")
     @EnableConfigurationProperties(ProjectProperties.class)
     @AutoConfigureWebClient(registerRestTemplate = true)
-    @RestClientTest(UserAccountManagementService.class)
+    @RestClientTest({UserAccountManagementService.class, ParallelPageFetcher.class, ConditionalGetClient.class, RequestCoalescer.class, HalStreamingReader.class, BoardListSnapshots.class, BulkDeleter.class, BatchDetailLoader.class, DetailPrefetcher.class})
     @Nested
     class RestTemplateTest {
 
@@ -86,14 +99,15 @@ class UserAccountManagementServiceTest {
             UserAccountDto expectedUserAccount = createUserAccountDto("ihj", "Ihj");
             UserAccountClientResponse expectedResponse = UserAccountClientResponse.of(List.of(expectedUserAccount));
             server
-                    .expect(requestTo(projectProperties.board().url() + "/api/userAccounts?size=10000"))
+                    .expect(requestTo(projectProperties.board().url() + "/api/userAccounts?page=0&size=" + projectProperties.board().pageSize() + "&sort=userId,asc"))
                     .andRespond(withSuccess(
                             mapper.writeValueAsString(expectedResponse),
                             MediaType.APPLICATION_JSON
                     ));
 
             // When
-            List<UserAccountDto> result = sut.getUserAccounts();
+            List<UserAccountDto> result = new ArrayList<>();
+            sut.forEachUserAccount(result::add);
 
             // Then
             assertThat(result).first()
@@ -102,6 +116,29 @@ class UserAccountManagementServiceTest {
             server.verify();
         }
 
+        @DisplayName("페이지 정보와 함께 회원 목록 API를 호출하면, 해당 페이지의 회원들만 가져온다.")
+        @Test
+        void givenPageable_whenCallingPagedUserAccountsApi_thenReturnsUserAccountPage() throws Exception {
+            // Given
+            UserAccountDto expectedUserAccount = createUserAccountDto("ihj", "Ihj");
+            UserAccountClientResponse expectedResponse = UserAccountClientResponse.of(List.of(expectedUserAccount));
+            server
+                    .expect(requestTo(projectProperties.board().url() + "/api/userAccounts?page=0&size=10&sort=createdAt,desc"))
+                    .andRespond(withSuccess(
+                            mapper.writeValueAsString(expectedResponse),
+                            MediaType.APPLICATION_JSON
+                    ));
+
+            // When
+            Page<UserAccountDto> result = sut.getUserAccounts(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent()).first()
+                    .hasFieldOrPropertyWithValue("userId", expectedUserAccount.userId());
+            server.verify();
+        }
+
         @DisplayName("회원 ID와 함께 회원 API를 호출하면, 회원을 가져온다.")
         @Test
         void givenUserAccountId_whenCallingUserAccountApi_thenReturnsUserAccount() throws Exception {
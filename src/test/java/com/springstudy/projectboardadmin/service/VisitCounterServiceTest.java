@@ -0,0 +1,130 @@
+package com.springstudy.projectboardadmin.service;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 방문 수")
+@ExtendWith(MockitoExtension.class)
+class VisitCounterServiceTest {
+
+    private VisitCounterService sut;
+
+    @Mock private VisitCountStore visitCountStore;
+
+    @BeforeEach
+    void setUp() {
+        ProjectProperties projectProperties = new ProjectProperties(null, new ProjectProperties.Visit(Duration.ofSeconds(10), 7));
+        sut = new VisitCounterService(projectProperties, visitCountStore);
+    }
+
+    @DisplayName("관리 화면 방문만 센다.")
+    @Test
+    void givenViewAndOtherEndpoints_whenIncrementing_thenCountsOnlyViewEndpoints() {
+        // Given
+
+        // When
+        sut.increment("/management/articles");
+        sut.increment("/admin/members");
+        sut.increment("/management/articles/{articleId}");
+        sut.increment("/");
+
+        // Then
+        assertThat(sut.visitCount()).isEqualTo(2);
+    }
+
+    @DisplayName("시작할 때 누적 방문 수를 읽어 두어, 첫 주기 전에도 다른 노드의 방문 수까지 보여준다.")
+    @Test
+    void givenStoredTotal_whenLoadingTotal_thenVisitCountIncludesStoredTotal() {
+        // Given
+        given(visitCountStore.total()).willReturn(100L);
+        sut.increment("/management/articles");
+
+        // When
+        sut.loadTotal();
+
+        // Then
+        assertThat(sut.visitCount()).isEqualTo(101);
+        then(visitCountStore).should(never()).addAll(anyMap());
+    }
+
+    @DisplayName("시작할 때 누적 방문 수를 읽지 못해도, 이 노드의 방문 수는 센다.")
+    @Test
+    void givenStoreFailure_whenLoadingTotal_thenKeepsCountingLocally() {
+        // Given
+        given(visitCountStore.total()).willThrow(new QueryTimeoutException("timeout"));
+        sut.increment("/management/articles");
+
+        // When
+        sut.loadTotal();
+
+        // Then
+        assertThat(sut.visitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 스레드가 동시에 세도, 빠짐없이 센다.")
+    @Test
+    void givenConcurrentVisits_whenIncrementing_thenCountsAll() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        IntStream.range(0, 10_000).forEach(i -> executor.execute(() -> sut.increment("/management/user-accounts")));
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(sut.visitCount()).isEqualTo(10_000);
+    }
+
+    @DisplayName("쌓인 방문 수를 반영하면, 화면별로 한 번에 더하고 모든 노드의 누적 방문 수를 보여준다.")
+    @Test
+    void givenPendingVisits_whenFlushing_thenAddsDeltasAndShowsClusterTotal() {
+        // Given
+        sut.increment("/management/articles");
+        sut.increment("/management/articles");
+        sut.increment("/admin/members");
+        given(visitCountStore.total()).willReturn(100L);
+
+        // When
+        sut.flush();
+
+        // Then
+        then(visitCountStore).should().addAll(Map.of("/management/articles", 2L, "/admin/members", 1L));
+        assertThat(sut.visitCount()).isEqualTo(100L);
+    }
+
+    @DisplayName("DB 에 더하지 못하면, 쌓인 방문 수를 되돌려 다음에 다시 더한다.")
+    @Test
+    void givenStoreFailure_whenFlushingAgain_thenRetriesPendingVisits() {
+        // Given
+        sut.increment("/management/articles");
+        willThrow(new QueryTimeoutException("timeout")).willDoNothing().given(visitCountStore).addAll(anyMap());
+        given(visitCountStore.total()).willReturn(1L);
+
+        // When
+        sut.flush();
+        long countAfterFailure = sut.visitCount();
+        sut.flush();
+
+        // Then
+        assertThat(countAfterFailure).isEqualTo(1L);
+        then(visitCountStore).should(times(2)).addAll(Map.of("/management/articles", 1L));
+        then(visitCountStore).should(times(1)).total();
+    }
+}
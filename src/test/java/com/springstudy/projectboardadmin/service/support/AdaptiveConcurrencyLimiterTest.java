@@ -0,0 +1,81 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 적응형 동시 요청 한도")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @DisplayName("한도만큼 요청이 진행 중이면, 기다리지 않고 바로 거절한다.")
+    @Test
+    void givenLimitReached_whenAcquiring_thenRejectsImmediately() {
+        // Given
+        AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 2.0);
+        sut.tryAcquire();
+        sut.tryAcquire();
+
+        // When
+        boolean acquired = sut.tryAcquire();
+
+        // Then
+        assertThat(acquired).isFalse();
+        assertThat(sut.getInFlight()).isEqualTo(2);
+    }
+
+    @DisplayName("한도를 다 쓰면서도 응답이 빠르면, 한도를 1 늘린다.")
+    @Test
+    void givenSaturatedAndFastResponses_whenCompleting_thenIncreasesLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 2.0);
+        sut.tryAcquire();
+        sut.tryAcquire();
+
+        // When
+        sut.onSuccess(FAST);
+
+        // Then
+        assertThat(sut.getLimit()).isEqualTo(3);
+        assertThat(sut.getInFlight()).isEqualTo(1);
+    }
+
+    @DisplayName("응답이 평소보다 크게 느려지면, 한도를 줄인다.")
+    @Test
+    void givenSlowResponse_whenCompleting_thenDecreasesLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 2.0);
+        sut.tryAcquire();
+        sut.onSuccess(FAST);
+        sut.tryAcquire();
+
+        // When
+        sut.onSuccess(SLOW);
+
+        // Then
+        assertThat(sut.getLimit()).isEqualTo(4);
+    }
+
+    @DisplayName("요청이 실패하면 한도를 줄이되, 최소 한도 아래로는 내리지 않는다.")
+    @Test
+    void givenDroppedRequests_whenCompleting_thenDecreasesLimitDownToMinimum() {
+        // Given
+        AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter(8, 3, 10, 0.5, 2.0);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            sut.tryAcquire();
+            sut.onDropped();
+        }
+
+        // Then
+        assertThat(sut.getLimit()).isEqualTo(3);
+        assertThat(sut.getInFlight()).isZero();
+    }
+
+}
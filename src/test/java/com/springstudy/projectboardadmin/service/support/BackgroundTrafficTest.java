@@ -0,0 +1,42 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 백그라운드 요청 표시")
+class BackgroundTrafficTest {
+
+    @DisplayName("작업을 실행하는 동안만 백그라운드로 표시하고, 끝나면 표시를 지운다.")
+    @Test
+    void givenBackgroundTask_whenRunning_thenMarksOnlyWhileRunning() {
+        // Given
+        boolean[] activeWhileRunning = new boolean[1];
+
+        // When
+        BackgroundTraffic.wrap(() -> activeWhileRunning[0] = BackgroundTraffic.isActive()).run();
+
+        // Then
+        assertThat(activeWhileRunning[0]).isTrue();
+        assertThat(BackgroundTraffic.isActive()).isFalse();
+    }
+
+    @DisplayName("다른 스레드로 넘긴 작업은, 넘긴 스레드의 표시를 이어받는다.")
+    @Test
+    void givenTaskHandedToAnotherThread_whenPropagating_thenInheritsMark() {
+        // Given
+        Supplier<Boolean> isActive = BackgroundTraffic::isActive;
+
+        // When
+        boolean background = BackgroundTraffic.call(() -> CompletableFuture.supplyAsync(BackgroundTraffic.propagate(isActive)).join());
+        boolean foreground = CompletableFuture.supplyAsync(BackgroundTraffic.propagate(isActive)).join();
+
+        // Then
+        assertThat(background).isTrue();
+        assertThat(foreground).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.springstudy.projectboardadmin.dto.UserAccountDto;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 목록 스냅샷 파일")
+class BoardListSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("저장한 목록을 읽으면, 내용과 페이지 정보, 받은 일시가 그대로 되살아난다.")
+    @Test
+    void givenWrittenSnapshots_whenReading_thenRestoresPages() {
+        // Given
+        BoardListSnapshotFile sut = snapshotFile(tempDir.resolve("snapshots.bin"));
+        URI uri = URI.create("http://localhost:8080/api/userAccounts?page=1&size=10&sort=userId,asc");
+        LocalDateTime fetchedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        UserAccountDto userAccount = UserAccountDto.of("uno", "uno@mail.com", "Uno", "memo", LocalDateTime.of(2022, 1, 1, 0, 0), "uno", null, null);
+        PageImpl<UserAccountDto> page = new PageImpl<>(List.of(userAccount), PageRequest.of(1, 10, Sort.by("userId")), 11);
+        sut.write(List.of(BoardListSnapshotFile.Entry.of(uri, page, fetchedAt)));
+
+        // When
+        List<BoardListSnapshotFile.Entry> entries = sut.read();
+
+        // Then
+        assertThat(entries).hasSize(1);
+        BoardListSnapshotFile.Entry entry = entries.get(0);
+        assertThat(entry.uri()).isEqualTo(uri);
+        assertThat(entry.fetchedAt()).isEqualTo(fetchedAt);
+        assertThat(entry.page().getContent()).containsExactly(userAccount);
+        assertThat(entry.page().getPageable()).isEqualTo(PageRequest.of(1, 10, Sort.by("userId")));
+        assertThat(entry.page().getTotalElements()).isEqualTo(11);
+    }
+
+    @DisplayName("파일 본문이 손상되었으면, 체크섬이 맞지 않아 아무것도 읽지 않는다.")
+    @Test
+    void givenCorruptedFile_whenReading_thenReturnsEmpty() throws Exception {
+        // Given
+        Path path = tempDir.resolve("snapshots.bin");
+        BoardListSnapshotFile sut = snapshotFile(path);
+        PageImpl<UserAccountDto> page = new PageImpl<>(List.of(UserAccountDto.of("uno", "uno@mail.com", "Uno", null)));
+        sut.write(List.of(BoardListSnapshotFile.Entry.of(URI.create("http://localhost:8080/api/userAccounts"), page, LocalDateTime.now())));
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(file.length() - 2);
+            file.write('X');
+        }
+
+        // When
+        List<BoardListSnapshotFile.Entry> entries = sut.read();
+
+        // Then
+        assertThat(entries).isEmpty();
+    }
+
+    private static BoardListSnapshotFile snapshotFile(Path path) {
+        ProjectProperties projectProperties = new ProjectProperties(new ProjectProperties.Board(
+                "http://localhost:8080", 1, null, null, null, null, null, null, null, null, null, null,
+                new ProjectProperties.ListSnapshot(true, Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMinutes(2), 1, 10, true, path.toString(), Duration.ofMinutes(1)), null, null
+        ), null);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        return new BoardListSnapshotFile(projectProperties, objectMapper);
+    }
+}
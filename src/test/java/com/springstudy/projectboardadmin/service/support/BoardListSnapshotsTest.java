@@ -0,0 +1,93 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.StalePage;
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 목록 스냅샷")
+class BoardListSnapshotsTest {
+
+    private static final String LIST_URL = "http://localhost:8080/api/articles";
+    private static final URI FIRST_PAGE = URI.create(LIST_URL + "?page=0&size=10");
+
+    private final BoardListSnapshots sut = new BoardListSnapshots(new ProjectProperties(new ProjectProperties.Board(
+            "http://localhost:8080", 1, null, null, null, null, null, null, null, null, null, null,
+            new ProjectProperties.ListSnapshot(true, Duration.ZERO, Duration.ofMinutes(10), Duration.ofMinutes(2), 1, 10, false, null, null), null, null
+    ), null), new StaticListableBeanFactory().getBeanProvider(BoardListSnapshotFile.class));
+
+    @AfterEach
+    void tearDown() {
+        sut.destroy();
+    }
+
+    @DisplayName("기억해 둔 목록이 오래되었으면, 게시판을 기다리지 않고 바로 돌려준 뒤 백그라운드에서 다시 받는다.")
+    @Test
+    void givenExpiredSnapshot_whenFetching_thenReturnsSnapshotAndRefreshesInBackground() throws Exception {
+        // Given
+        AtomicInteger version = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Page<String>> call = () -> {
+            int current = version.incrementAndGet();
+            if (current > 1) { await(release); } // 두 번째부터는 게시판이 느리게 응답한다.
+            return page("v" + current);
+        };
+        sut.fetch(FIRST_PAGE, call);
+        Thread.sleep(10);
+
+        // When
+        Page<String> served = sut.fetch(FIRST_PAGE, call);
+        release.countDown();
+
+        // Then
+        assertThat(served.getContent()).containsExactly("v1");
+        assertThat(served).isNotInstanceOf(StalePage.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sut.fetch(FIRST_PAGE, call).getContent().contains("v1") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sut.fetch(FIRST_PAGE, call).getContent()).doesNotContain("v1");
+    }
+
+    @DisplayName("목록을 잊으면, 같은 목록 URL 의 모든 페이지를 게시판에서 새로 받는다.")
+    @Test
+    void givenEvictedList_whenFetching_thenRequestsBoardAgain() {
+        // Given
+        URI otherList = URI.create("http://localhost:8080/api/articleComments?page=0&size=10");
+        sut.fetch(FIRST_PAGE, () -> page("first"));
+        sut.fetch(otherList, () -> page("comment"));
+
+        // When
+        sut.evict(LIST_URL);
+
+        // Then
+        assertThat(sut.fetch(FIRST_PAGE, () -> page("fresh")).getContent()).containsExactly("fresh");
+        assertThat(sut.fetch(otherList, () -> page("fresh")).getContent()).containsExactly("comment");
+    }
+
+    private static Page<String> page(String content) {
+        return new PageImpl<>(List.of(content));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 상세 정보 미리 받기")
+class DetailPrefetcherTest {
+
+    private static final String CACHE_NAME = "detail";
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, 0.5, 2.0);
+    private final DetailPrefetcher sut;
+
+    DetailPrefetcherTest() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheManager", cacheManager);
+        beanFactory.addBean("boardConcurrencyLimiter", limiter);
+        ProjectProperties projectProperties = new ProjectProperties(new ProjectProperties.Board(
+                "http://localhost:8080", 1, null, null, null, null, null, null, null, null, null,
+                new ProjectProperties.Prefetch(true, 2, 10, 0.5), null, null, null
+        ), null);
+
+        this.sut = new DetailPrefetcher(
+                projectProperties,
+                beanFactory.getBeanProvider(CacheManager.class),
+                beanFactory.getBeanProvider(AdaptiveConcurrencyLimiter.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.destroy();
+    }
+
+    @DisplayName("보이는 페이지의 ID 를 넘기면, 캐시에 없는 것만 백그라운드에서 받아 캐시에 넣는다.")
+    @Test
+    void givenPartiallyCachedIds_whenPrefetching_thenLoadsOnlyMissingIntoCache() throws Exception {
+        // Given
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        cache.put(1L, "cached");
+        Set<Long> requested = ConcurrentHashMap.newKeySet();
+
+        // When
+        sut.prefetch(CACHE_NAME, List.of(1L, 2L, 3L), id -> {
+            requested.add(id);
+            return "detail-" + id;
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((cache.get(2L) == null || cache.get(3L) == null) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(requested).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(cache.get(1L, String.class)).isEqualTo("cached");
+        assertThat(cache.get(2L, String.class)).isEqualTo("detail-2");
+    }
+
+    @DisplayName("게시판으로 나가는 요청이 한도의 절반을 넘으면, 미리 받지 않는다.")
+    @Test
+    void givenBusyBoardClient_whenPrefetching_thenSkipsLoading() throws Exception {
+        // Given
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        Set<Long> requested = ConcurrentHashMap.newKeySet();
+
+        // When
+        sut.prefetch(CACHE_NAME, List.of(1L, 2L), id -> {
+            requested.add(id);
+            return "detail-" + id;
+        });
+        Thread.sleep(100); // 잘못 제출된 작업이 있다면 실행될 시간을 준다.
+
+        // Then
+        assertThat(requested).isEmpty();
+        assertThat(cacheManager.getCache(CACHE_NAME).get(1L)).isNull();
+    }
+
+}
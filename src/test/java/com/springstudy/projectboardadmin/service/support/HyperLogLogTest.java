@@ -0,0 +1,60 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+@DisplayName("서로 다른 값 수 추정 - HyperLogLog")
+class HyperLogLogTest {
+
+    @DisplayName("같은 값을 여러 번 더해도, 서로 다른 값의 수만 추정한다.")
+    @Test
+    void givenDuplicatedValues_whenEstimating_thenCountsDistinctValues() {
+        // Given
+        HyperLogLog sut = new HyperLogLog();
+
+        // When
+        IntStream.range(0, 3).forEach(round -> IntStream.range(0, 20_000).forEach(i -> sut.add("admin" + i)));
+
+        // Then
+        assertThat(sut.estimate()).isCloseTo(20_000L, withinPercentage(5));
+    }
+
+    @DisplayName("값이 적으면, 거의 정확하게 센다.")
+    @Test
+    void givenFewValues_whenEstimating_thenCountsExactly() {
+        // Given
+        HyperLogLog sut = new HyperLogLog();
+
+        // When
+        sut.add("uno");
+        sut.add("uno");
+        sut.add("dos");
+        sut.add("tres");
+
+        // Then
+        assertThat(sut.estimate()).isEqualTo(3);
+    }
+
+    @DisplayName("겹치는 스케치를 합치면, 합집합의 크기를 추정하고, 바이트로 바꿔도 그대로다.")
+    @Test
+    void givenOverlappingSketches_whenMerging_thenEstimatesUnion() {
+        // Given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        IntStream.range(0, 6_000).forEach(i -> first.add("admin" + i));
+        IntStream.range(4_000, 10_000).forEach(i -> second.add("admin" + i));
+
+        // When
+        HyperLogLog merged = HyperLogLog.fromBytes(first.toBytes()).merge(second);
+
+        // Then
+        assertThat(merged.estimate()).isCloseTo(10_000L, withinPercentage(5));
+        assertThat(HyperLogLog.fromBytes(merged.toBytes()).estimate()).isEqualTo(merged.estimate());
+        assertThat(merged.merge(second).estimate()).isEqualTo(merged.estimate());
+    }
+}
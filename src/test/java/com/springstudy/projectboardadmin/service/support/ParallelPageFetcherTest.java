@@ -0,0 +1,132 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import com.springstudy.projectboardadmin.dto.properties.ProjectProperties;
+import com.springstudy.projectboardadmin.dto.response.PagedClientResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비즈니스 로직 - 전체 페이지 병렬 조회")
+class ParallelPageFetcherTest {
+
+    private final ParallelPageFetcher sut = new ParallelPageFetcher(
+            new ProjectProperties(new ProjectProperties.Board("http://localhost:8080", 1, new ProjectProperties.Fetch(true, 2, 100), null, null, null, null, null, null, null, null, null, null, null, null), null)
+    );
+
+    @AfterEach
+    void tearDown() {
+        sut.destroy();
+    }
+
+    @DisplayName("여러 페이지를 동시에 요청하면, 응답 순서와 관계없이 페이지 순서대로 합친다.")
+    @Test
+    void givenPagesCompletingOutOfOrder_whenIteratingAll_thenReturnsElementsInPageOrder() {
+        // Given
+        int totalPages = 5;
+
+        List<Integer> result = new ArrayList<>();
+
+        // When
+        sut.forEach(page -> {
+            sleep((totalPages - page) * 20L); // 뒤 페이지일수록 먼저 끝나도록 한다.
+            return new TestPage(List.of(page), totalPages, page);
+        }, result::add);
+
+        // Then
+        assertThat(result).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @DisplayName("첫 페이지가 유일한 페이지이면, 추가 요청 없이 첫 페이지만 반환한다.")
+    @Test
+    void givenSinglePage_whenIteratingAll_thenRequestsOnlyFirstPage() {
+        // Given
+        AtomicInteger requestCount = new AtomicInteger();
+        List<Integer> result = new ArrayList<>();
+
+        // When
+        sut.forEach(page -> {
+            requestCount.incrementAndGet();
+            return new TestPage(List.of(1, 2, 3), 1, page);
+        }, result::add);
+
+        // Then
+        assertThat(result).containsExactly(1, 2, 3);
+        assertThat(requestCount).hasValue(1);
+    }
+
+    @DisplayName("페이지 요청 중 하나가 실패하면, 그 예외를 그대로 던진다.")
+    @Test
+    void givenFailingPage_whenIteratingAll_thenThrowsOriginalException() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("board is down");
+
+        // When & Then
+        assertThatThrownBy(() -> sut.forEach(page -> {
+            if (page == 2) { throw failure; }
+            return new TestPage(List.of(page), 3, page);
+        }, page -> {})).isSameAs(failure);
+    }
+
+    @DisplayName("페이지가 많아도, 넘겨주지 않은 페이지는 동시 요청 수만큼만 앞질러 요청한다.")
+    @Test
+    void givenManyPages_whenIteratingAll_thenRequestsAheadOnlyUpToParallelism() {
+        // Given
+        int totalPages = 10;
+        AtomicInteger requestCount = new AtomicInteger();
+        List<Integer> requestCountsWhenConsumed = new ArrayList<>();
+
+        // When
+        sut.forEach(page -> {
+            requestCount.incrementAndGet();
+            return new TestPage(List.of(page), totalPages, page);
+        }, page -> requestCountsWhenConsumed.add(requestCount.get()));
+
+        // Then
+        assertThat(requestCount).hasValue(totalPages);
+        assertThat(requestCountsWhenConsumed).hasSize(totalPages);
+        for (int page = 0; page < totalPages; page++) {
+            assertThat(requestCountsWhenConsumed.get(page)).isLessThanOrEqualTo(page + 1 + 2); // 넘겨준 페이지까지 + 동시 요청 수(2)
+        }
+    }
+
+    @DisplayName("스트림은 소비하기 전에는 요청하지 않고, 일부만 소비한 뒤 닫으면 앞질러 요청한 페이지까지만 요청한다.")
+    @Test
+    void givenManyPages_whenPartiallyStreaming_thenRequestsLazilyAndOnlyAhead() {
+        // Given
+        int totalPages = 10;
+        AtomicInteger requestCount = new AtomicInteger();
+
+        // When
+        List<Integer> result;
+        int requestCountBeforeConsuming;
+        try (var elements = sut.stream(page -> {
+            requestCount.incrementAndGet();
+            return new TestPage(List.of(page), totalPages, page);
+        })) {
+            requestCountBeforeConsuming = requestCount.get();
+            result = elements.limit(2).toList();
+        }
+
+        // Then
+        assertThat(requestCountBeforeConsuming).isZero();
+        assertThat(result).containsExactly(0, 1);
+        assertThat(requestCount.get()).isLessThanOrEqualTo(2 + 2); // 넘겨준 페이지까지 + 동시 요청 수(2)
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record TestPage(List<Integer> content, int totalPages, int number) implements PagedClientResponse<Integer> {}
+}
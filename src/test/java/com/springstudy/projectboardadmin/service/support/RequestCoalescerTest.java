@@ -0,0 +1,103 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비즈니스 로직 - 동시 요청 합치기")
+class RequestCoalescerTest {
+
+    private final RequestCoalescer sut = new RequestCoalescer();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 키로 동시에 요청하면, 실제 요청은 한 번만 보내고 결과를 함께 받는다.")
+    @Test
+    void givenConcurrentCallsWithSameKey_whenExecuting_thenCallsOnceAndSharesResult() throws Exception {
+        // Given
+        AtomicInteger callCount = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> sut.execute("uri", () -> {
+            callCount.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }), executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        AtomicReference<String> followerResult = new AtomicReference<>();
+        Thread follower = new Thread(() -> followerResult.set(sut.execute("uri", () -> {
+            callCount.incrementAndGet();
+            return "duplicate";
+        })));
+        follower.start();
+        awaitParked(follower); // 선행 요청이 아직 붙잡혀 있으므로, 후발 호출자가 멈춰 있는 곳은 결과를 기다리는 join 뿐이다.
+        release.countDown();
+        follower.join(TimeUnit.SECONDS.toMillis(5));
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(followerResult).hasValue("result");
+        assertThat(callCount).hasValue(1);
+        assertThat(sut.inFlightCount()).isZero();
+    }
+
+    @DisplayName("앞선 요청이 끝난 뒤 같은 키로 요청하면, 새로 요청한다.")
+    @Test
+    void givenFinishedCall_whenExecutingSameKeyAgain_thenCallsAgain() {
+        // Given
+        AtomicInteger callCount = new AtomicInteger();
+
+        // When
+        sut.execute("uri", callCount::incrementAndGet);
+        sut.execute("uri", callCount::incrementAndGet);
+
+        // Then
+        assertThat(callCount).hasValue(2);
+    }
+
+    @DisplayName("요청이 실패하면, 예외를 그대로 던지고 진행 중 목록에서 지운다.")
+    @Test
+    void givenFailingCall_whenExecuting_thenThrowsAndForgetsKey() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("board is down");
+
+        // When & Then
+        assertThatThrownBy(() -> sut.execute("uri", () -> { throw failure; })).isSameAs(failure);
+        assertThat(sut.inFlightCount()).isZero();
+    }
+
+    private static void awaitParked(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).as("후발 호출자가 기다리기 시작하지 않았습니다.").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+        private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
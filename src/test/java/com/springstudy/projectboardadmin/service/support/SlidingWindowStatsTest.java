@@ -0,0 +1,70 @@
+package com.springstudy.projectboardadmin.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+@DisplayName("최근 한 시간 요청 통계")
+class SlidingWindowStatsTest {
+
+    private static final long NOW = 1_700_000_000_000L; // 분 경계가 아닌 임의의 시각
+
+    private final SlidingWindowStats sut = new SlidingWindowStats();
+
+    @DisplayName("요청을 기록하면, 초당/분당 요청 수와 응답 시간 백분위를 보여준다.")
+    @Test
+    void givenRecordedRequests_whenTakingSnapshot_thenReturnsCountsAndPercentiles() {
+        // Given
+        for (int i = 0; i < 90; i++) { sut.record(NOW, 1_000); }
+        for (int i = 0; i < 10; i++) { sut.record(NOW - 60_000, 50_000); }
+
+        // When
+        SlidingWindowStats.Snapshot snapshot = sut.snapshot(NOW);
+
+        // Then
+        assertThat(snapshot.requests()).isEqualTo(100);
+        assertThat(snapshot.perMinute()[59]).isEqualTo(90);
+        assertThat(snapshot.perMinute()[58]).isEqualTo(10);
+        assertThat(snapshot.perSecond()[59]).isEqualTo(90);
+        assertThat(snapshot.p50Millis()).isCloseTo(1.0, withinPercentage(7));
+        assertThat(snapshot.p95Millis()).isCloseTo(50.0, withinPercentage(7));
+        assertThat(snapshot.p99Millis()).isCloseTo(50.0, withinPercentage(7));
+    }
+
+    @DisplayName("한 시간이 지난 요청은, 같은 칸을 다시 쓰면서 통계에서 빠진다.")
+    @Test
+    void givenRequestsOlderThanAnHour_whenTakingSnapshot_thenExcludesThem() {
+        // Given
+        long anHourAgo = NOW - 3_600_000;
+        sut.record(anHourAgo, 100_000);
+        sut.record(NOW, 1_000);
+
+        // When
+        SlidingWindowStats.Snapshot snapshot = sut.snapshot(NOW);
+
+        // Then
+        assertThat(snapshot.requests()).isEqualTo(1);
+        assertThat(snapshot.perMinute()).containsOnly(0, 1);
+        assertThat(snapshot.p99Millis()).isCloseTo(1.0, withinPercentage(7));
+    }
+
+    @DisplayName("응답 시간 구간은 빈틈없이 이어지고, 구간의 폭은 값의 1/16 이내다.")
+    @Test
+    void givenLatencies_whenIndexing_thenBucketsAreContiguousAndPrecise() {
+        // Given
+        int previous = -1;
+
+        // When & Then
+        for (long micros = 0; micros < 1 << 16; micros++) {
+            int index = SlidingWindowStats.indexOf(micros);
+            assertThat(index).isBetween(previous, previous + 1);
+            assertThat(SlidingWindowStats.upperBoundOf(index)).isGreaterThanOrEqualTo(micros);
+            assertThat(SlidingWindowStats.upperBoundOf(index) - micros).isLessThanOrEqualTo(micros / 16);
+            previous = index;
+        }
+        assertThat(SlidingWindowStats.upperBoundOf(SlidingWindowStats.indexOf(Long.MAX_VALUE)))
+                .isEqualTo(SlidingWindowStats.MAX_MICROS);
+    }
+}